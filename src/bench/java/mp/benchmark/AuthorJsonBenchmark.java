@@ -0,0 +1,49 @@
+package mp.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import mp.domain.Author;
+import mp.infra.AuthorController.ApiResponse;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * AuthorController 응답 직렬화 비용 (단건 / 목록)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthorJsonBenchmark {
+
+    @Param({"100"})
+    int listSize;
+
+    ObjectMapper objectMapper;
+    ApiResponse<Author> single;
+    ApiResponse<List<Author>> list;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        single = new ApiResponse<>(true, "작가 신청 상태를 성공적으로 조회했습니다.", BenchmarkFixtures.author(0));
+        List<Author> authors = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            authors.add(BenchmarkFixtures.author(i));
+        }
+        list = new ApiResponse<>(true, "대기 중인 작가 목록을 성공적으로 조회했습니다.", authors);
+    }
+
+    @Benchmark
+    public byte[] singleAuthor() throws Exception {
+        return objectMapper.writeValueAsBytes(single);
+    }
+
+    @Benchmark
+    public byte[] authorList() throws Exception {
+        return objectMapper.writeValueAsBytes(list);
+    }
+}
@@ -0,0 +1,45 @@
+package mp.benchmark;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.UUID;
+import mp.domain.Author;
+import mp.domain.AuthorStatus;
+
+/**
+ * 벤치마크 공용 테스트 데이터
+ */
+final class BenchmarkFixtures {
+
+    static final String JWT_SECRET =
+        "your-super-secret-jwt-key-for-production-use-this-should-be-very-long-and-random";
+
+    private BenchmarkFixtures() {}
+
+    static String token(UUID userId, String role) {
+        return token(JWT_SECRET, userId, role);
+    }
+
+    static String token(String secret, UUID userId, String role) {
+        return Jwts.builder()
+            .setSubject(userId.toString())
+            .claim("role", role)
+            .claim("is_subscribed", false)
+            .setExpiration(new Date(System.currentTimeMillis() + 3_600_000L))
+            .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+            .compact();
+    }
+
+    static Author author(int i) {
+        Author author = new Author();
+        author.setId(UUID.randomUUID());
+        author.setUserId(UUID.randomUUID());
+        author.setStatus(AuthorStatus.PENDING);
+        author.setName("author-" + i);
+        author.setBio("소개글 " + i + " - 장르 소설과 에세이를 주로 씁니다.");
+        author.setPortfolioUrl("https://example.com/portfolio/" + i);
+        return author;
+    }
+}
@@ -0,0 +1,64 @@
+package mp.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import mp.domain.AuditCompleted;
+import mp.domain.Author;
+import mp.infra.EventCodec;
+import mp.infra.EventSerializer;
+import mp.infra.InMemorySchemaRegistry;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * 도메인 이벤트 생성 / 직렬화 비용 (JSON vs CBOR)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventBenchmark {
+
+    Author author;
+    AuditCompleted event;
+    EventCodec cbor;
+    EventCodec.Encoded encoded;
+
+    @Setup
+    public void setUp() {
+        author = BenchmarkFixtures.author(1);
+        event = new AuditCompleted(author);
+        cbor = new EventCodec(new InMemorySchemaRegistry(), "application/cbor");
+        encoded = cbor.encode(event);
+    }
+
+    @Benchmark
+    public AuditCompleted construct() {
+        return new AuditCompleted(author);
+    }
+
+    @Benchmark
+    public String toJson() {
+        return event.toJson();
+    }
+
+    @Benchmark
+    public byte[] toBytes() {
+        return EventSerializer.toBytes(event);
+    }
+
+    @Benchmark
+    public byte[] toCbor() {
+        return cbor.encode(event).getPayload();
+    }
+
+    @Benchmark
+    public AuditCompleted fromCbor() {
+        return cbor.decode(encoded.getPayload(), encoded.getContentType(), AuditCompleted.class);
+    }
+
+    @Benchmark
+    public String constructAndSerialize() {
+        return new AuditCompleted(author).toJson();
+    }
+}
@@ -0,0 +1,172 @@
+package mp.benchmark;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import mp.infra.TimeOrderedUuidGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * 테이블 크기별 조회 지연 비교 (V2 인덱스 마이그레이션 적용 전/후)
+ * - 파일 기반 H2 에 실제 Flyway 스크립트(V1, indexed 이면 V2 까지)로 스키마를 만들고 rows 건을 적재한다.
+ * - AuthorRepository 의 findByUserId, PENDING 첫 페이지, PENDING 키셋 페이지 쿼리와 같은 SQL 을 실행한다.
+ * 10M 은 적재에만 수 분이 걸리므로 -p rows=100000,1000000 처럼 골라서 실행할 수 있다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class IndexScalingBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int PAGE_SIZE = 100;
+    private static final int SAMPLES = 1024;
+
+    @Param({"100000", "1000000", "10000000"})
+    int rows;
+
+    @Param({"false", "true"})
+    boolean indexed;
+
+    File directory;
+    Connection connection;
+    PreparedStatement byUserId;
+    PreparedStatement pendingFirstPage;
+    PreparedStatement pendingAfter;
+
+    byte[][] userIds = new byte[SAMPLES][];
+    byte[][] pendingCursors = new byte[SAMPLES][];
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        directory = new File("target/bench-index-" + rows + "-" + indexed);
+        FileSystemUtils.deleteRecursively(directory);
+        connection = DriverManager.getConnection(
+            // 같은 쿼리 결과 재사용을 꺼서 매번 실제로 실행되게 한다.
+            "jdbc:h2:file:" + directory.getAbsolutePath() + "/db;OPTIMIZE_REUSE_RESULTS=0", "sa", ""
+        );
+        ScriptUtils.executeSqlScript(
+            connection, new ClassPathResource("db/migration/V1__create_author_and_outbox_tables.sql")
+        );
+        seed();
+        if (indexed) {
+            // 운영과 같은 순서: 데이터가 있는 테이블에 V2 를 적용
+            ScriptUtils.executeSqlScript(
+                connection, new ClassPathResource("db/migration/V2__author_user_id_and_status_indexes.sql")
+            );
+        }
+        connection.createStatement().execute("analyze");
+
+        String columns = "select id, user_id, name, status, portfolio_url, version from author_table ";
+        byUserId = connection.prepareStatement(columns + "where user_id = ?");
+        pendingFirstPage = connection.prepareStatement(
+            columns + "where status = 'PENDING' order by status, id limit " + PAGE_SIZE
+        );
+        pendingAfter = connection.prepareStatement(
+            columns + "where status = 'PENDING' and id > ? order by status, id limit " + PAGE_SIZE
+        );
+    }
+
+    /**
+     * 10% PENDING, 나머지는 APPROVED/REJECTED. 조회에 쓸 userId/커서를 고르게 샘플링해 둔다.
+     */
+    private void seed() throws Exception {
+        connection.setAutoCommit(false);
+        int step = Math.max(1, rows / SAMPLES);
+        int pendingSamples = 0;
+        try (PreparedStatement insert = connection.prepareStatement(
+            "insert into author_table (id, user_id, name, bio, portfolio_url, status, version) " +
+            "values (?, ?, ?, ?, ?, ?, 0)"
+        )) {
+            for (int i = 0; i < rows; i++) {
+                byte[] id = toBytes(TimeOrderedUuidGenerator.next());
+                byte[] userId = toBytes(UUID.randomUUID());
+                String status = i % 10 == 0 ? "PENDING" : (i % 2 == 0 ? "APPROVED" : "REJECTED");
+                insert.setBytes(1, id);
+                insert.setBytes(2, userId);
+                insert.setString(3, "author-" + i);
+                insert.setString(4, "bio of author " + i);
+                insert.setString(5, "https://portfolio.example.com/" + i);
+                insert.setString(6, status);
+                insert.addBatch();
+
+                if (i % step == 0 && i / step < SAMPLES) {
+                    userIds[i / step] = userId;
+                }
+                if ("PENDING".equals(status) && i % (step * 10) == 0 && pendingSamples < SAMPLES) {
+                    pendingCursors[pendingSamples++] = id;
+                }
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+        for (int i = pendingSamples; i < SAMPLES; i++) {
+            pendingCursors[i] = pendingCursors[i % Math.max(1, pendingSamples)];
+        }
+        for (int i = 0; i < SAMPLES; i++) {
+            if (userIds[i] == null) {
+                userIds[i] = userIds[i % Math.max(1, rows)];
+            }
+        }
+        connection.setAutoCommit(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        connection.createStatement().execute("shutdown");
+        connection.close();
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public int findByUserId() throws Exception {
+        byUserId.setBytes(1, userIds[ThreadLocalRandom.current().nextInt(SAMPLES)]);
+        return count(byUserId);
+    }
+
+    @Benchmark
+    public int pendingFirstPage() throws Exception {
+        return count(pendingFirstPage);
+    }
+
+    @Benchmark
+    public int pendingKeysetPage() throws Exception {
+        pendingAfter.setBytes(1, pendingCursors[ThreadLocalRandom.current().nextInt(SAMPLES)]);
+        return count(pendingAfter);
+    }
+
+    private static int count(PreparedStatement statement) throws Exception {
+        int count = 0;
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        byte[] bytes = new byte[16];
+        long msb = uuid.getMostSignificantBits();
+        long lsb = uuid.getLeastSignificantBits();
+        for (int i = 0; i < 8; i++) {
+            bytes[i] = (byte) (msb >>> (56 - 8 * i));
+            bytes[8 + i] = (byte) (lsb >>> (56 - 8 * i));
+        }
+        return bytes;
+    }
+}
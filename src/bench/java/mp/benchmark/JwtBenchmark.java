@@ -0,0 +1,41 @@
+package mp.benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import mp.infra.JwtPrincipal;
+import mp.infra.JwtUtil;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * JWT 검증 비용 (서명 검증 vs 검증 캐시 적중)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    @Param({"0", "10000"})
+    int cacheSize;
+
+    JwtUtil jwtUtil;
+    String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(BenchmarkFixtures.JWT_SECRET, cacheSize);
+        token = BenchmarkFixtures.token(UUID.randomUUID(), "USER");
+    }
+
+    @Benchmark
+    public JwtPrincipal authenticate() {
+        return jwtUtil.authenticate(token);
+    }
+
+    @Benchmark
+    public Object parseClaims() {
+        return jwtUtil.extractAllClaims(token);
+    }
+}
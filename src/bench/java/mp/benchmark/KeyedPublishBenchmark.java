@@ -0,0 +1,212 @@
+package mp.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import mp.AuthorsApplication;
+import mp.domain.AuditCompleted;
+import mp.domain.Author;
+import mp.domain.AuthorStatus;
+import mp.infra.OutboxEventStore;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * author.review.v1 키 기반 발행 검증 (embedded Kafka)
+ * - 애플리케이션을 띄워 outbox 에 기록한 이벤트를 OutboxRelay 가 author-review-out 바인딩으로 발행한다.
+ *   (메시지 키/헤더 매핑과 binder 설정이 운영과 같다)
+ * - 작가 ID 를 키로 발행하면 파티션이 여러 개여도 작가별 순서가 유지되는지 확인하고
+ * - 파티션 수만큼 컨슈머를 늘렸을 때 처리량이 얼마나 오르는지 측정한다.
+ * 순서가 어긋나면 IllegalStateException 으로 실패한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class KeyedPublishBenchmark {
+
+    private static final int EVENTS = 20_000;
+    private static final int AUTHORS = 200;
+    private static final int EVENTS_PER_TRANSACTION = 1_000;
+    private static final long WORK_PER_EVENT_NANOS = 100_000; // 컨슈머의 이벤트당 처리 비용 (DB 갱신 등 I/O 대기)
+
+    @Param({"1", "4"})
+    int partitions;
+
+    EmbeddedKafkaBroker broker;
+    ConfigurableApplicationContext context;
+    TransactionTemplate transactionTemplate;
+    OutboxEventStore outboxEventStore;
+    JdbcTemplate jdbcTemplate;
+    List<UUID> authorIds;
+    String topic;
+    Map<TopicPartition, Long> startOffsets;
+    int sequence;
+
+    @Setup(Level.Trial)
+    public void start() {
+        topic = "author.review.bench." + partitions;
+        broker = new EmbeddedKafkaBroker(1, false, partitions, topic);
+        broker.afterPropertiesSet();
+
+        context = SpringApplication.run(
+            AuthorsApplication.class,
+            "--server.port=0",
+            "--spring.cloud.stream.kafka.binder.brokers=" + broker.getBrokersAsString(),
+            "--spring.cloud.stream.bindings.author-review-out.destination=" + topic,
+            "--spring.cloud.stream.bindings.author-review-out.producer.partition-count=" + partitions,
+            // 자기 이벤트를 다시 소비하지 않도록 입력 바인딩은 다른 토픽을 본다
+            "--spring.cloud.stream.bindings.author-review-in.destination=author.review.bench.unused",
+            "--spring.cloud.stream.bindings.author-review-out.contentType=application/json",
+            "--outbox.relay.poll-interval-ms=50",
+            "--spring.jpa.properties.hibernate.show_sql=false",
+            "--logging.level.root=WARN"
+        );
+        AuthorsApplication.applicationContext = context;
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        outboxEventStore = context.getBean(OutboxEventStore.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        authorIds = new ArrayList<>(AUTHORS);
+        for (int i = 0; i < AUTHORS; i++) {
+            authorIds.add(UUID.randomUUID());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+        broker.destroy();
+    }
+
+    /**
+     * 반복마다 EVENTS 건을 outbox 에 기록하고 relay 가 모두 발행할 때까지 기다린다.
+     * (심사 상태가 번갈아 바뀌는 순서 있는 이벤트, timestamp 를 작가별 순서 확인용 시퀀스로 쓴다)
+     */
+    @Setup(Level.Iteration)
+    public void publish() throws Exception {
+        startOffsets = endOffsets();
+        for (int from = 0; from < EVENTS; from += EVENTS_PER_TRANSACTION) {
+            appendEvents(from, Math.min(EVENTS, from + EVENTS_PER_TRANSACTION));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(5);
+        while (jdbcTemplate.queryForObject("select count(*) from outbox_table", Long.class) > 0) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Outbox was not drained in 5 minutes");
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    private void appendEvents(int from, int to) {
+        transactionTemplate.execute(status -> outboxEventStore.appendBatched(() -> {
+            for (int i = from; i < to; i++) {
+                Author author = new Author();
+                author.setId(authorIds.get(i % AUTHORS));
+                author.setUserId(author.getId());
+                author.setStatus(i % 2 == 0 ? AuthorStatus.APPROVED : AuthorStatus.REJECTED);
+                AuditCompleted event = new AuditCompleted(author);
+                event.setTimestamp((long) sequence++);
+                event.publishAfterCommit();
+            }
+            return null;
+        }));
+    }
+
+    private Map<TopicPartition, Long> endOffsets() {
+        List<TopicPartition> assignment = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            assignment.add(new TopicPartition(topic, i));
+        }
+        try (KafkaConsumer<String, byte[]> consumer = newConsumer()) {
+            return consumer.endOffsets(assignment);
+        }
+    }
+
+    /**
+     * 파티션마다 컨슈머 하나씩(같은 그룹이 나눠 갖는 것과 같은 배치)으로 이번 반복의 이벤트를 처리한다.
+     */
+    @Benchmark
+    public int consume() throws Exception {
+        AtomicInteger consumed = new AtomicInteger();
+        Map<String, Integer> lastSequence = new ConcurrentHashMap<>();
+        ExecutorService pool = Executors.newFixedThreadPool(partitions);
+        List<Future<?>> workers = new ArrayList<>();
+        for (TopicPartition partition : startOffsets.keySet()) {
+            workers.add(pool.submit(() -> {
+                try (KafkaConsumer<String, byte[]> consumer = newConsumer()) {
+                    consumer.assign(Collections.singletonList(partition));
+                    consumer.seek(partition, startOffsets.get(partition));
+                    while (consumed.get() < EVENTS) {
+                        for (ConsumerRecord<String, byte[]> record : consumer.poll(Duration.ofMillis(100))) {
+                            verifyOrder(lastSequence, record);
+                            LockSupport.parkNanos(WORK_PER_EVENT_NANOS);
+                            consumed.incrementAndGet();
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> worker : workers) {
+            worker.get(5, TimeUnit.MINUTES);
+        }
+        pool.shutdown();
+        return consumed.get();
+    }
+
+    private static void verifyOrder(Map<String, Integer> lastSequence, ConsumerRecord<String, byte[]> record) {
+        int sequence = sequenceOf(record.value());
+        Integer previous = lastSequence.put(record.key(), sequence);
+        if (previous != null && previous >= sequence) {
+            throw new IllegalStateException(
+                "Out of order for author " + record.key() + ": " + previous + " -> " + sequence
+            );
+        }
+    }
+
+    private static int sequenceOf(byte[] payload) {
+        String json = new String(payload, StandardCharsets.UTF_8);
+        int start = json.indexOf("\"timestamp\":") + "\"timestamp\":".length();
+        int end = start;
+        while (end < json.length() && Character.isDigit(json.charAt(end))) {
+            end++;
+        }
+        return Integer.parseInt(json.substring(start, end));
+    }
+
+    private KafkaConsumer<String, byte[]> newConsumer() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString());
+        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        return new KafkaConsumer<>(config);
+    }
+}
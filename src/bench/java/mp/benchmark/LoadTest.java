@@ -0,0 +1,383 @@
+package mp.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import mp.AuthorsApplication;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+
+/**
+ * authors API 부하 테스트 (벤치마크 프로파일 전용, JMH 아님)
+ * - 애플리케이션을 H2 + embedded Kafka 로 같은 프로세스에 띄우고 jwt.secret 으로 토큰을 만든다.
+ * - 엔드포인트별로 고정 요청률(open loop)로 요청을 보내며, 지연 시간은 예정 시각부터 잰다. (coordinated omission 보정)
+ * - 처리량과 p50/p99/p999 를 리포트 파일로 남겨 빌드 간에 비교한다.
+ * - 측정 구간의 오류율(2xx 가 아닌 응답 + 전송 실패)이 load.max-error-rate 를 넘으면 종료 코드 1 로 실패한다.
+ *   (기본 0: 기본 프로파일은 503 없이 처리되어야 한다)
+ *
+ * mvn -Pbench test-compile exec:exec@load-test -Dload.rates=apply=5,status=100 -Dload.duration-seconds=60
+ */
+public final class LoadTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final long MAX_LATENCY_MICROS = TimeUnit.SECONDS.toMicros(60);
+    private static final int ADMINS = 16;
+
+    private final Map<String, Double> rates;
+    private final int durationSeconds;
+    private final int warmupSeconds;
+    private final int seedUsers;
+    private final double maxErrorRate;
+    private final Path report;
+
+    private HttpClient client;
+    private String baseUrl;
+    private String secret;
+    private final List<String> adminTokens = new ArrayList<>();
+    private final List<String> userTokens = new ArrayList<>();
+    private final List<UUID> authorIds = new ArrayList<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private LoadTest(
+        Map<String, Double> rates,
+        int durationSeconds,
+        int warmupSeconds,
+        int seedUsers,
+        double maxErrorRate,
+        Path report
+    ) {
+        this.rates = rates;
+        this.durationSeconds = durationSeconds;
+        this.warmupSeconds = warmupSeconds;
+        this.seedUsers = seedUsers;
+        this.maxErrorRate = maxErrorRate;
+        this.report = report;
+    }
+
+    public static void main(String[] args) throws Exception {
+        // HttpClient.sendAsync 는 완료 콜백을 CompletableFuture 기본 executor 로 넘긴다. 공용 풀 병렬도가 1 이하
+        // (1 CPU) 이면 그 executor 가 작업마다 새 스레드를 만들어, 부하 생성기가 측정 대상과 CPU 를 다툰다.
+        if (System.getProperty("java.util.concurrent.ForkJoinPool.common.parallelism") == null) {
+            System.setProperty("java.util.concurrent.ForkJoinPool.common.parallelism", "2");
+        }
+        LoadTest test = new LoadTest(
+            parseRates(System.getProperty("load.rates", "apply=5,status=50,list=10,review=10,userId=50")),
+            Integer.getInteger("load.duration-seconds", 30),
+            // 1 CPU 에서는 C2 컴파일이 요청 처리와 CPU 를 다퉈 10초 웜업으로는 큐가 넘친다. (측정값이 JIT 를 재게 된다)
+            Integer.getInteger("load.warmup-seconds", 40),
+            Integer.getInteger("load.seed-users", 200),
+            Double.parseDouble(System.getProperty("load.max-error-rate", "0")),
+            Paths.get(System.getProperty("load.report", "target/load-report.txt"))
+        );
+
+        EmbeddedKafkaBroker broker = new EmbeddedKafkaBroker(1, false, 1, "author.review.v1");
+        broker.afterPropertiesSet();
+        ConfigurableApplicationContext context = SpringApplication.run(
+            AuthorsApplication.class,
+            "--server.port=0",
+            "--spring.cloud.stream.kafka.binder.brokers=" + broker.getBrokersAsString(),
+            "--spring.jpa.properties.hibernate.show_sql=false",
+            "--logging.level.root=WARN",
+            "--logging.level.org.hibernate.type=WARN",
+            "--logging.level.org.springframework.cloud=WARN"
+        );
+        AuthorsApplication.applicationContext = context;
+        boolean passed;
+        try {
+            passed = test.run(
+                "http://localhost:" + context.getEnvironment().getProperty("local.server.port"),
+                context.getEnvironment().getRequiredProperty("jwt.secret")
+            );
+        } finally {
+            context.close();
+            broker.destroy();
+        }
+        // 라이브러리가 남긴 non-daemon 스레드 때문에 JVM 이 끝나지 않는 것을 막는다.
+        System.exit(passed ? 0 : 1);
+    }
+
+    /**
+     * 측정 구간의 오류율이 maxErrorRate 이하면 true
+     */
+    private boolean run(String baseUrl, String secret) throws Exception {
+        this.baseUrl = baseUrl;
+        this.secret = secret;
+        this.client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+        seed();
+
+        List<Endpoint> endpoints = new ArrayList<>();
+        rates.forEach((name, rate) -> endpoints.add(new Endpoint(name, rate)));
+
+        log("warmup " + warmupSeconds + "s");
+        drive(endpoints, warmupSeconds);
+        endpoints.forEach(Endpoint::reset);
+
+        log("measuring " + durationSeconds + "s at " + rates);
+        Instant started = Instant.now();
+        drive(endpoints, durationSeconds);
+
+        String text = report(endpoints, started);
+        Path parent = report.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.write(report, text.getBytes(StandardCharsets.UTF_8));
+        System.out.println(text);
+        log("report written to " + report.toAbsolutePath());
+
+        long sent = endpoints.stream().mapToLong(endpoint -> endpoint.sent.sum()).sum();
+        long errors = endpoints.stream().mapToLong(Endpoint::errors).sum();
+        double errorRate = sent > 0 ? errors / (double) sent : 0;
+        if (errorRate > maxErrorRate) {
+            log(String.format("FAILED: error rate %.4f (%d/%d) exceeds load.max-error-rate %.4f",
+                errorRate, errors, sent, maxErrorRate));
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 조회/심사 대상이 될 신청을 미리 만들어 둔다.
+     */
+    private void seed() throws Exception {
+        for (int i = 0; i < ADMINS; i++) {
+            adminTokens.add(BenchmarkFixtures.token(secret, UUID.randomUUID(), "ADMIN"));
+        }
+        for (int i = 0; i < seedUsers; i++) {
+            String token = BenchmarkFixtures.token(secret, UUID.randomUUID(), "USER");
+            HttpResponse<String> response = client.send(apply(token, i), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("seed apply failed: " + response.statusCode() + " " + response.body());
+            }
+            userTokens.add(token);
+        }
+
+        String after = null;
+        do {
+            String uri = baseUrl + "/authors/list?size=500" + (after != null ? "&after=" + after : "");
+            HttpResponse<String> response = client.send(
+                get(uri, adminTokens.get(0)), HttpResponse.BodyHandlers.ofString()
+            );
+            for (JsonNode author : MAPPER.readTree(response.body()).path("data")) {
+                authorIds.add(UUID.fromString(author.path("id").asText()));
+            }
+            after = response.headers().firstValue("X-Next-Cursor").orElse(null);
+        } while (after != null);
+        log("seeded " + userTokens.size() + " applications");
+    }
+
+    /**
+     * 엔드포인트마다 스레드 하나가 예정 시각에 맞춰 비동기 요청을 보낸다.
+     * 응답이 늦어져도 다음 요청을 미루지 않으며, 남은 요청은 끝날 때까지 기다린다.
+     */
+    private void drive(List<Endpoint> endpoints, int seconds) throws InterruptedException {
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(seconds);
+        List<Thread> threads = new ArrayList<>();
+        for (Endpoint endpoint : endpoints) {
+            Thread thread = new Thread(() -> endpoint.drive(start, end), "load-" + endpoint.name);
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (Endpoint endpoint : endpoints) {
+            endpoint.awaitInFlight();
+        }
+    }
+
+    private HttpRequest request(String name, long n) {
+        switch (name) {
+            case "apply":
+                return apply(BenchmarkFixtures.token(secret, UUID.randomUUID(), "USER"), n);
+            case "status":
+                return get(baseUrl + "/authors/status", pick(userTokens, n));
+            case "list":
+                return get(baseUrl + "/authors/list", pick(adminTokens, n));
+            case "review":
+                // 라운드마다 승인/거절을 번갈아 보내 매번 실제 상태 변경이 일어나도록 한다.
+                UUID authorId = pick(authorIds, n);
+                boolean approve = (n / authorIds.size()) % 2 == 0;
+                return HttpRequest.newBuilder(URI.create(baseUrl + "/authors/review"))
+                    .header("Authorization", "Bearer " + pick(adminTokens, n))
+                    .header("Content-Type", "application/json")
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString(
+                        "{\"authorId\":\"" + authorId + "\",\"status\":" + approve + "}"
+                    ))
+                    .build();
+            case "userId":
+                return get(baseUrl + "/authors/" + pick(authorIds, n) + "/userId", pick(userTokens, n));
+            default:
+                throw new IllegalArgumentException("Unknown endpoint: " + name);
+        }
+    }
+
+    private HttpRequest apply(String token, long n) {
+        String body = "{\"name\":\"load-" + n + "\",\"bio\":\"부하 테스트 신청 " + n + "\","
+            + "\"portfolioUrl\":\"https://example.com/portfolio/" + n + "\"}";
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/authors/apply"))
+            .header("Authorization", "Bearer " + token)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+    }
+
+    private static HttpRequest get(String uri, String token) {
+        return HttpRequest.newBuilder(URI.create(uri))
+            .header("Authorization", "Bearer " + token)
+            .GET()
+            .build();
+    }
+
+    private static <T> T pick(List<T> values, long n) {
+        return values.get((int) (n % values.size()));
+    }
+
+    private String report(List<Endpoint> endpoints, Instant started) {
+        StringWriter buffer = new StringWriter();
+        PrintWriter out = new PrintWriter(buffer);
+        out.printf("# authors load test %s%n", started);
+        out.printf("# duration=%ds warmup=%ds seed-users=%d max-error-rate=%s rates=%s java=%s xmx=%dM cpus=%d%n",
+            durationSeconds, warmupSeconds, seedUsers, maxErrorRate, rates,
+            System.getProperty("java.version"),
+            Runtime.getRuntime().maxMemory() / (1024 * 1024),
+            Runtime.getRuntime().availableProcessors());
+        out.printf("%-8s %8s %10s %8s %8s %8s %10s %10s %10s %10s  %s%n",
+            "endpoint", "target/s", "actual/s", "sent", "2xx", "errors",
+            "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)", "statuses");
+        for (Endpoint endpoint : endpoints) {
+            Histogram histogram = endpoint.latencies;
+            out.printf("%-8s %8.1f %10.1f %8d %8d %8d %10.2f %10.2f %10.2f %10.2f  %s%n",
+                endpoint.name,
+                endpoint.rate,
+                endpoint.completed.sum() / (double) durationSeconds,
+                endpoint.sent.sum(),
+                endpoint.succeeded.sum(),
+                endpoint.errors(),
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0,
+                endpoint.statuses);
+        }
+        out.flush();
+        return buffer.toString();
+    }
+
+    static Map<String, Double> parseRates(String spec) {
+        Map<String, Double> rates = new LinkedHashMap<>();
+        for (String entry : spec.split(",")) {
+            String[] pair = entry.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("load.rates must look like apply=5,status=50: " + spec);
+            }
+            double rate = Double.parseDouble(pair[1]);
+            if (rate > 0) {
+                rates.put(pair[0].trim(), rate);
+            }
+        }
+        return rates;
+    }
+
+    private static void log(String message) {
+        System.out.println("[load] " + message);
+    }
+
+    /**
+     * 엔드포인트별 요청률과 측정값
+     */
+    private final class Endpoint {
+        final String name;
+        final double rate;
+        final ConcurrentHistogram latencies = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+        final LongAdder sent = new LongAdder();
+        final LongAdder completed = new LongAdder();
+        final LongAdder succeeded = new LongAdder();
+        final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        final AtomicLong inFlight = new AtomicLong();
+
+        Endpoint(String name, double rate) {
+            this.name = name;
+            this.rate = rate;
+            request(name, 0); // 알 수 없는 이름이면 시작 전에 실패
+        }
+
+        void drive(long start, long end) {
+            long interval = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+            for (long intended = start; intended < end; intended += interval) {
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                long scheduledAt = intended;
+                HttpRequest request = request(name, sequence.getAndIncrement());
+                sent.increment();
+                inFlight.incrementAndGet();
+                client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduledAt);
+                        latencies.recordValue(Math.min(micros, MAX_LATENCY_MICROS));
+                        completed.increment();
+                        if (error == null) {
+                            statuses.computeIfAbsent(response.statusCode(), code -> new LongAdder()).increment();
+                            if (response.statusCode() / 100 == 2) {
+                                succeeded.increment();
+                            }
+                        }
+                        inFlight.decrementAndGet();
+                    });
+            }
+        }
+
+        /**
+         * 2xx 가 아닌 응답과 전송 실패 (끝나지 않은 요청 포함)
+         */
+        long errors() {
+            return sent.sum() - succeeded.sum();
+        }
+
+        void awaitInFlight() throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.MICROSECONDS.toNanos(MAX_LATENCY_MICROS);
+            while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+        }
+
+        void reset() {
+            latencies.reset();
+            sent.reset();
+            completed.reset();
+            succeeded.reset();
+            statuses.clear();
+        }
+    }
+}
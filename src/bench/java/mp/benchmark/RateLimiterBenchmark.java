@@ -0,0 +1,78 @@
+package mp.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import mp.infra.RateLimitProperties;
+import mp.infra.RateLimiter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * 요청 제한 판정 비용 (규칙 매칭 + 버킷 CAS)
+ * - distinctUsers: 스레드마다 다른 사용자 (일반적인 상황)
+ * - sameUser: 모든 스레드가 한 버킷을 두고 경합 (최악의 CAS 경합)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@Threads(4)
+public class RateLimiterBenchmark {
+
+    private static final int USERS = 10_000;
+    private static final List<GrantedAuthority> ADMIN =
+        Collections.singletonList(new SimpleGrantedAuthority("ROLE_ADMIN"));
+
+    RateLimiter rateLimiter;
+    UUID[] users = new UUID[USERS];
+    UUID sharedUser = UUID.randomUUID();
+
+    @Setup
+    public void setUp() {
+        RateLimitProperties.Rule apply = new RateLimitProperties.Rule();
+        apply.setName("apply");
+        apply.setMethod("POST");
+        apply.setPath("/authors/apply");
+        apply.setPermitsPerSecond(1);
+        apply.setBurst(5);
+
+        // 판정 비용만 재도록 사실상 거절되지 않는 한도
+        RateLimitProperties.Rule review = new RateLimitProperties.Rule();
+        review.setName("review");
+        review.setMethod("PATCH");
+        review.setPath("/authors/review/**");
+        review.setRole("ADMIN");
+        review.setPermitsPerSecond(1e9);
+        review.setBurst(1_000_000);
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getRules().add(apply);
+        properties.getRules().add(review);
+        rateLimiter = new RateLimiter(properties, new SimpleMeterRegistry());
+        for (int i = 0; i < USERS; i++) {
+            users[i] = UUID.randomUUID();
+        }
+    }
+
+    @Benchmark
+    public long distinctUsers() {
+        return admit(users[ThreadLocalRandom.current().nextInt(USERS)]);
+    }
+
+    @Benchmark
+    public long sameUser() {
+        return admit(sharedUser);
+    }
+
+    private long admit(UUID user) {
+        RateLimiter.CompiledRule rule = rateLimiter.match("PATCH", "/authors/review/batch", ADMIN);
+        return rateLimiter.acquire(rule, user, System.nanoTime());
+    }
+}
@@ -0,0 +1,65 @@
+package mp.benchmark;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import mp.domain.Author;
+import mp.domain.AuthorSearchIndex;
+import mp.domain.AuthorStatus;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * 검색 색인 질의 시간 (작가 수별)
+ * - selective: 한두 명만 맞는 숫자 접두어
+ * - broad: 모든 작가의 소개에 있는 단어 (접두어 일치)
+ * - twoTerms: 전원이 맞는 단어 + 좁은 단어 (AND)
+ * - pendingOnly: broad 에 상태 필터
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchIndexBenchmark {
+
+    private static final Set<AuthorStatus> PENDING = EnumSet.of(AuthorStatus.PENDING);
+
+    @Param({"10000", "100000"})
+    int authors;
+
+    AuthorSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        index = new AuthorSearchIndex(null, null, null, 1, 1000);
+        for (int i = 0; i < authors; i++) {
+            Author author = BenchmarkFixtures.author(i);
+            if (i % 2 == 0) {
+                author.setStatus(AuthorStatus.APPROVED);
+            }
+            index.index(author);
+        }
+    }
+
+    @Benchmark
+    public List<AuthorSearchIndex.Hit> selective() {
+        return index.search("9876", null, 20);
+    }
+
+    @Benchmark
+    public List<AuthorSearchIndex.Hit> broad() {
+        return index.search("에세이", null, 20);
+    }
+
+    @Benchmark
+    public List<AuthorSearchIndex.Hit> twoTerms() {
+        return index.search("author 123", null, 20);
+    }
+
+    @Benchmark
+    public List<AuthorSearchIndex.Hit> pendingOnly() {
+        return index.search("에세이", PENDING, 20);
+    }
+}
@@ -0,0 +1,132 @@
+package mp.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+
+/**
+ * 애플리케이션 기동 시간 (프로세스 시작부터)
+ * - firstRequest: 인증된 GET /authors/status 가 처음 응답할 때까지
+ * - ready: /actuator/health/readiness 가 200 을 돌려줄 때까지
+ * 반복마다 새 JVM 을 띄우며, Kafka 는 embedded 브로커를 쓴다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 3)
+@Fork(1)
+public class StartupBenchmark {
+
+    private static final long TIMEOUT_NANOS = TimeUnit.MINUTES.toNanos(3);
+
+    @Param({"default", "fast-start"})
+    String profile;
+
+    EmbeddedKafkaBroker broker;
+    HttpClient client;
+    Process process;
+    int port;
+
+    @Setup(Level.Trial)
+    public void startBroker() {
+        // 벤치마크 JVM 에는 logback 설정이 없어서 embedded 브로커가 DEBUG 로그를 쏟아낸다.
+        LoggingSystem.get(getClass().getClassLoader()).setLogLevel(LoggingSystem.ROOT_LOGGER_NAME, LogLevel.WARN);
+        broker = new EmbeddedKafkaBroker(1, false, 1, "author.review.v1");
+        broker.afterPropertiesSet();
+        client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopBroker() {
+        broker.destroy();
+    }
+
+    @Setup(Level.Iteration)
+    public void launch() throws IOException {
+        port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.add("-Xmx400M");
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add("mp.AuthorsApplication");
+        command.add("--server.port=" + port);
+        command.add("--spring.cloud.stream.kafka.binder.brokers=" + broker.getBrokersAsString());
+        command.add("--spring.jpa.properties.hibernate.show_sql=false");
+        command.add("--logging.level.org.hibernate.type=WARN");
+        command.add("--logging.level.org.springframework.cloud=WARN");
+        if (!"default".equals(profile)) {
+            command.add("--spring.profiles.active=" + profile);
+        }
+        process = new ProcessBuilder(command)
+            .redirectErrorStream(true)
+            .redirectOutput(new File(System.getProperty("java.io.tmpdir"), "startup-benchmark.log"))
+            .start();
+    }
+
+    @TearDown(Level.Iteration)
+    public void stop() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    @Benchmark
+    public int firstRequest() throws Exception {
+        String token = BenchmarkFixtures.token(UUID.randomUUID(), "USER");
+        return await(HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/authors/status"))
+            .header("Authorization", "Bearer " + token)
+            .GET()
+            .build(), false);
+    }
+
+    @Benchmark
+    public int ready() throws Exception {
+        return await(HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/health/readiness"))
+            .GET()
+            .build(), true);
+    }
+
+    /**
+     * 응답이 올 때까지 (okOnly 면 200 이 올 때까지) 반복 요청한다.
+     */
+    private int await(HttpRequest request, boolean okOnly) throws Exception {
+        long deadline = System.nanoTime() + TIMEOUT_NANOS;
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("application exited with " + process.exitValue());
+            }
+            try {
+                int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                if (!okOnly || status == 200) {
+                    return status;
+                }
+            } catch (IOException e) {
+                // 아직 포트가 열리지 않음
+            }
+            Thread.sleep(20);
+        }
+        throw new IllegalStateException("application did not respond within 3 minutes");
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package mp.benchmark;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import mp.infra.TimeOrderedUuidGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * 기본키 생성 방식별 insert 처리량 비교 (랜덤 UUIDv4 vs 시간 순서 UUIDv7)
+ * 파일 기반 H2 의 BINARY(16) 기본키 테이블에 rows 건을 batch insert 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class UuidInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Param({"random", "timeOrdered"})
+    String generator;
+
+    @Param({"1000000"})
+    int rows;
+
+    File directory;
+    Connection connection;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws Exception {
+        directory = new File("target/bench-uuid-" + generator);
+        FileSystemUtils.deleteRecursively(directory);
+        connection = DriverManager.getConnection(
+            "jdbc:h2:file:" + directory.getAbsolutePath() + "/db", "sa", ""
+        );
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(
+                "create table author_table (id binary(16) primary key, user_id binary(16), name varchar(255))"
+            );
+        }
+        connection.setAutoCommit(false);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws Exception {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("shutdown");
+        }
+        connection.close();
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public int insert() throws Exception {
+        boolean timeOrdered = "timeOrdered".equals(generator);
+        try (PreparedStatement insert = connection.prepareStatement(
+            "insert into author_table (id, user_id, name) values (?, ?, ?)"
+        )) {
+            for (int i = 0; i < rows; i++) {
+                UUID id = timeOrdered ? TimeOrderedUuidGenerator.next() : UUID.randomUUID();
+                insert.setBytes(1, toBytes(id));
+                insert.setBytes(2, toBytes(UUID.randomUUID()));
+                insert.setString(3, "author-" + i);
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+        return rows;
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        byte[] bytes = new byte[16];
+        long msb = uuid.getMostSignificantBits();
+        long lsb = uuid.getLeastSignificantBits();
+        for (int i = 0; i < 8; i++) {
+            bytes[i] = (byte) (msb >>> (56 - 8 * i));
+            bytes[8 + i] = (byte) (lsb >>> (56 - 8 * i));
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,85 @@
+package mp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.Closeable;
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅 (authors.datasource.routing.enabled=true 일 때만)
+ * - primary: spring.datasource.* (+ spring.datasource.hikari.*)
+ * - replica: authors.datasource.replica.* (Hikari 속성)
+ * 두 커넥션 풀은 별도 빈으로 노출하지 않고 dataSource 빈 하나가 소유한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "authors.datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+        DataSourceProperties properties,
+        Environment environment,
+        ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        Binder binder = Binder.get(environment);
+
+        HikariDataSource primary = properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+
+        HikariDataSource replica = new HikariDataSource();
+        binder.bind("authors.datasource.replica", Bindable.ofInstance(replica));
+
+        meterRegistry.ifAvailable(registry -> {
+            primary.setMetricRegistry(registry);
+            replica.setMetricRegistry(registry);
+        });
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(ReadWriteRoutingDataSource.PRIMARY, primary);
+        targets.put(ReadWriteRoutingDataSource.REPLICA, replica);
+
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource();
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+
+        return new RoutingDataSourceProxy(routingDataSource, primary, replica);
+    }
+
+    /**
+     * 트랜잭션의 readOnly 여부가 정해진 뒤 첫 쿼리 시점에 실제 커넥션을 얻고,
+     * 컨텍스트 종료 시 두 커넥션 풀을 닫는다.
+     */
+    static class RoutingDataSourceProxy extends LazyConnectionDataSourceProxy implements Closeable {
+
+        private final HikariDataSource primary;
+        private final HikariDataSource replica;
+
+        RoutingDataSourceProxy(DataSource routingDataSource, HikariDataSource primary, HikariDataSource replica) {
+            super(routingDataSource);
+            this.primary = primary;
+            this.replica = replica;
+        }
+
+        @Override
+        public void close() {
+            replica.close();
+            primary.close();
+        }
+    }
+}
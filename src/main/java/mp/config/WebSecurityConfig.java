@@ -1,6 +1,8 @@
 package mp.config;
 
 import mp.infra.JwtAuthenticationFilter;
+import mp.infra.RateLimitFilter;
+import mp.infra.RateLimiter;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -15,9 +17,11 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class WebSecurityConfig extends WebSecurityConfigurerAdapter {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimiter rateLimiter;
 
-    public WebSecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter) {
+    public WebSecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter, RateLimiter rateLimiter) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.rateLimiter = rateLimiter;
     }
 
     @Override
@@ -31,9 +35,11 @@ public class WebSecurityConfig extends WebSecurityConfigurerAdapter {
             .and()
             .authorizeRequests()
                 .antMatchers("/h2-console/**").permitAll() // H2 Console 접근 허용
-                .antMatchers("/actuator/**").permitAll() // Actuator 엔드포인트 접근 허용
+                .antMatchers("/actuator/health", "/actuator/health/**").permitAll() // k8s probe
+                .antMatchers("/actuator/**").hasRole("ADMIN") // metrics/prometheus 등은 관리자 토큰으로만 (스크래퍼도 Bearer 토큰 사용)
                 .anyRequest().authenticated() // 나머지는 인증 필요
             .and()
-            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            .addFilterAfter(new RateLimitFilter(rateLimiter), JwtAuthenticationFilter.class); // 사용자별 요청 제한
     }
 } 
\ No newline at end of file
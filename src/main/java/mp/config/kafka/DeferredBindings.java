@@ -0,0 +1,145 @@
+package mp.config.kafka;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.DescribeClusterOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cloud.stream.binding.BindingsLifecycleController;
+import org.springframework.cloud.stream.binding.BindingsLifecycleController.State;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Kafka 바인딩을 기동 후 백그라운드에서 시작한다. (authors.kafka.deferred-start=true, fast-start 프로파일)
+ * - 바인딩은 auto-startup: false 로 만들어 두고, 브로커에 연결되면 author-review-out / author-review-in 을 시작한다.
+ * - 그 전까지 발생한 이벤트는 outbox 에 쌓여 있다가 준비된 뒤 OutboxRelay 가 발행한다.
+ * - 상태는 eventPublisher 헬스로 노출한다. (연결 중 UNKNOWN, 준비 UP)
+ */
+@Component("eventPublisher")
+public class DeferredBindings implements HealthIndicator {
+
+    private static final Logger log = LoggerFactory.getLogger(DeferredBindings.class);
+
+    enum Phase { WAITING, CONNECTING, READY }
+
+    private final ApplicationContext context;
+    private final BindingsLifecycleController bindings;
+    private final boolean deferred;
+    private final String brokers;
+    private final long retryMillis;
+
+    private volatile Phase phase;
+    private volatile int attempts;
+    private volatile String lastError;
+    private volatile Thread starter;
+
+    public DeferredBindings(
+        ApplicationContext context,
+        BindingsLifecycleController bindings,
+        @Value("${authors.kafka.deferred-start:false}") boolean deferred,
+        @Value("${spring.cloud.stream.kafka.binder.brokers:localhost:9092}") String brokers,
+        @Value("${authors.kafka.deferred-start-retry-ms:5000}") long retryMillis
+    ) {
+        this.context = context;
+        this.bindings = bindings;
+        this.deferred = deferred;
+        this.brokers = brokers;
+        this.retryMillis = retryMillis;
+        this.phase = deferred ? Phase.WAITING : Phase.READY;
+    }
+
+    /**
+     * OutboxRelay 가 발행해도 되는지 (바인딩이 시작되었는지)
+     */
+    public boolean isReady() {
+        return phase == Phase.READY;
+    }
+
+    @EventListener
+    public void start(ApplicationReadyEvent event) {
+        // 바인더 자식 컨텍스트의 ApplicationReadyEvent 도 올라오므로 이 컨텍스트의 것만 처리
+        if (!deferred || event.getApplicationContext() != context) {
+            return;
+        }
+        Thread thread = new Thread(this::connect, "kafka-binding-starter");
+        thread.setDaemon(true);
+        starter = thread;
+        thread.start();
+    }
+
+    /**
+     * 컨텍스트가 닫히면 아직 연결 중인 시작 스레드를 멈춘다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        Thread thread = starter;
+        if (thread != null) {
+            thread.interrupt();
+            thread.join(retryMillis);
+        }
+    }
+
+    private void connect() {
+        phase = Phase.CONNECTING;
+        while (!Thread.currentThread().isInterrupted()) {
+            attempts++;
+            try {
+                awaitBroker();
+                bindings.changeState(KafkaProcessor.AUTHOR_REVIEW_OUT, State.STARTED);
+                bindings.changeState(KafkaProcessor.AUTHOR_REVIEW_IN, State.STARTED);
+                phase = Phase.READY;
+                lastError = null;
+                log.info("Kafka bindings started after {} attempt(s)", attempts);
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                lastError = e.getMessage();
+                log.warn("Kafka is not reachable yet ({}), retrying in {} ms", e.getMessage(), retryMillis);
+                try {
+                    Thread.sleep(retryMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    private void awaitBroker() throws Exception {
+        Map<String, Object> config = Collections.singletonMap(
+            AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, Arrays.asList(brokers.split(","))
+        );
+        try (AdminClient admin = AdminClient.create(config)) {
+            admin.describeCluster(new DescribeClusterOptions().timeoutMs((int) retryMillis))
+                .nodes()
+                .get(retryMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = phase == Phase.READY ? Health.up() : Health.unknown();
+        builder.withDetail("phase", phase).withDetail("deferred", deferred);
+        if (deferred) {
+            builder.withDetail("attempts", attempts);
+        }
+        if (lastError != null) {
+            builder.withDetail("lastError", lastError);
+        }
+        return builder.build();
+    }
+}
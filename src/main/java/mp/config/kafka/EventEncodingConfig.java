@@ -0,0 +1,49 @@
+package mp.config.kafka;
+
+import mp.infra.EventCodec;
+import mp.infra.InMemorySchemaRegistry;
+import mp.infra.JdbcSchemaRegistry;
+import mp.infra.SchemaRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.cloud.stream.config.BindingServiceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+public class EventEncodingConfig {
+
+    /**
+     * 다른 SchemaRegistry 빈이 없으면 authors.events.schema-registry 로 고른다.
+     * - jdbc (기본): event_schema 테이블, 같은 DB 를 쓰는 레플리카가 공유
+     * - in-memory: 프로세스 내부, 단일 인스턴스/테스트 전용
+     */
+    @Bean
+    @ConditionalOnMissingBean(SchemaRegistry.class)
+    public SchemaRegistry schemaRegistry(
+        @Value("${authors.events.schema-registry:jdbc}") String type,
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager
+    ) {
+        if ("in-memory".equalsIgnoreCase(type)) {
+            return new InMemorySchemaRegistry();
+        }
+        if (!"jdbc".equalsIgnoreCase(type)) {
+            throw new IllegalArgumentException("authors.events.schema-registry must be jdbc or in-memory: " + type);
+        }
+        return new JdbcSchemaRegistry(jdbcTemplate, transactionManager);
+    }
+
+    /**
+     * author-review-out 바인딩의 content-type 으로 발행 인코딩을 정한다. (application/json | application/cbor)
+     */
+    @Bean
+    public EventCodec eventCodec(SchemaRegistry schemaRegistry, BindingServiceProperties bindingServiceProperties) {
+        return new EventCodec(
+            schemaRegistry,
+            bindingServiceProperties.getBindingProperties(KafkaProcessor.AUTHOR_REVIEW_OUT).getContentType()
+        );
+    }
+}
@@ -1,11 +1,18 @@
 package mp.config.kafka;
 
+import org.springframework.cloud.stream.annotation.Input;
 import org.springframework.cloud.stream.annotation.Output;
 import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.SubscribableChannel;
 
 public interface KafkaProcessor {
     String AUTHOR_REVIEW_OUT = "author-review-out";
+    String AUTHOR_REVIEW_IN = "author-review-in";
 
     @Output(AUTHOR_REVIEW_OUT)
     MessageChannel authorReviewOut();
+
+    // 레플리카 간 캐시 무효화용 구독 (그룹 없이 모든 인스턴스가 수신)
+    @Input(AUTHOR_REVIEW_IN)
+    SubscribableChannel authorReviewIn();
 }
@@ -6,6 +6,7 @@ import mp.infra.AbstractEvent;
 
 //<<< DDD / Domain Event
 @Data
+@EqualsAndHashCode(callSuper = false) // eventType/timestamp 는 비교하지 않는다
 @ToString
 public class AuditCompleted extends AbstractEvent {
 
@@ -13,9 +14,15 @@ public class AuditCompleted extends AbstractEvent {
     private UUID userId;
     private String status;
     private String portfolioUrl;
+    private Long version; // 심사 후 작가 버전 (수신 측 중복 push 제거용)
 
     public AuditCompleted(Author aggregate) {
-        super(aggregate);
+        super();
+        // BeanUtils.copyProperties 대신 필요한 필드만 직접 복사 (리플렉션 없음)
+        this.id = aggregate.getId();
+        this.userId = aggregate.getUserId();
+        this.portfolioUrl = aggregate.getPortfolioUrl();
+        this.version = aggregate.getVersion();
         if (aggregate.getStatus() != null) {
             this.status = aggregate.getStatus().getValue();
         }
@@ -24,5 +31,10 @@ public class AuditCompleted extends AbstractEvent {
     public AuditCompleted() {
         super();
     }
+
+    @Override
+    public String getAggregateId() {
+        return id != null ? id.toString() : null;
+    }
 }
 //>>> DDD / Domain Event
@@ -14,7 +14,7 @@ public class Author {
 
     @Id
     @GeneratedValue(generator = "UUID")
-    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    @GenericGenerator(name = "UUID", strategy = "mp.infra.TimeOrderedUuidGenerator")
     @Column(columnDefinition = "BINARY(16)")
     private UUID id;
 
@@ -31,6 +31,9 @@ public class Author {
 
     private String portfolioUrl;
 
+    @Version
+    private Long version;
+
     @PostUpdate
     public void onPostUpdate() {
         AuditCompleted auditCompleted = new AuditCompleted(this);
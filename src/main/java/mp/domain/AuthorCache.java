@@ -0,0 +1,141 @@
+package mp.domain;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 작가 조회용 near cache (authorId / userId 두 키로 조회)
+ * - 크기/TTL 로 제한하고, 변경은 커밋 후 또는 AuditCompleted 수신 시 evict 로 반영한다.
+ * - 캐시된 Author 는 여러 요청이 공유하므로 읽기 전용으로만 사용해야 한다.
+ * - 미스는 primary 에서 읽는다. replica 는 evict 직후 아직 변경 전 행을 돌려줄 수 있어, 그 값이 TTL 동안 남기 때문이다.
+ */
+@Component
+public class AuthorCache implements MeterBinder {
+
+    private final Cache<UUID, Author> byId;
+    private final Cache<UUID, Author> byUserId;
+    // evict 할 때마다 증가. 로딩 전후로 값이 다르면 로딩한 값을 캐시에 넣지 않는다.
+    private final AtomicLong evictions = new AtomicLong();
+    // readOnly 가 아닌 트랜잭션 -> ReadWriteRoutingDataSource 가 primary 로 보낸다
+    private final TransactionTemplate primaryRead;
+
+    public AuthorCache(
+        PlatformTransactionManager transactionManager,
+        @Value("${authors.cache.max-size:10000}") long maxSize,
+        @Value("${authors.cache.ttl-seconds:300}") long ttlSeconds
+    ) {
+        this.byId = newCache(maxSize, ttlSeconds);
+        this.byUserId = newCache(maxSize, ttlSeconds);
+        this.primaryRead = new TransactionTemplate(transactionManager);
+    }
+
+    private static Cache<UUID, Author> newCache(long maxSize, long ttlSeconds) {
+        return Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .recordStats()
+            .build();
+    }
+
+    public Optional<Author> getById(UUID authorId, Function<UUID, Optional<Author>> loader) {
+        Author author = byId.getIfPresent(authorId);
+        if (author == null) {
+            author = load(loader, authorId);
+        }
+        return Optional.ofNullable(author);
+    }
+
+    public Optional<Author> getByUserId(UUID userId, Function<UUID, Optional<Author>> loader) {
+        Author author = byUserId.getIfPresent(userId);
+        if (author == null) {
+            author = load(loader, userId);
+        }
+        return Optional.ofNullable(author);
+    }
+
+    private Author load(Function<UUID, Optional<Author>> loader, UUID key) {
+        long generation = evictions.get();
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+            && TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            // 이미 readOnly 트랜잭션 안이면 replica 에서 읽었을 수 있으므로 돌려주기만 하고 넣지 않는다
+            return loader.apply(key).orElse(null);
+        }
+        Author author = primaryRead.execute(status -> loader.apply(key)).orElse(null);
+        put(author, generation);
+        return author;
+    }
+
+    /**
+     * 로더는 캐시 락 밖에서 실행한다.
+     * Cache.get(key, loader) 는 로딩 중 해시 버킷 락을 잡고 있어, 로더가 커넥션을 기다리는 동안
+     * 커넥션을 가진 다른 요청이 같은 버킷에 put 하면 커넥션 풀이 고갈되며 교착된다.
+     * 대신 로딩을 시작한 뒤 evict 가 있었으면 (커밋 전에 읽은 값일 수 있으므로) 넣지 않고,
+     * 이미 더 새 버전이 들어 있으면 덮어쓰지 않는다.
+     */
+    private void put(Author author, long generation) {
+        if (author == null) {
+            return;
+        }
+        if (author.getId() != null) {
+            put(byId, author.getId(), author, generation);
+        }
+        if (author.getUserId() != null) {
+            put(byUserId, author.getUserId(), author, generation);
+        }
+    }
+
+    private void put(Cache<UUID, Author> cache, UUID key, Author author, long generation) {
+        if (evictions.get() != generation) {
+            return;
+        }
+        cache.asMap().compute(key, (k, current) -> isNewer(current, author) ? current : author);
+        // 확인과 넣기 사이에 evict 가 끼어들었으면 방금 넣은 값을 되돌린다
+        if (evictions.get() != generation) {
+            cache.asMap().remove(key, author);
+        }
+    }
+
+    private static boolean isNewer(Author current, Author candidate) {
+        return current != null && current.getVersion() != null && candidate.getVersion() != null
+            && current.getVersion() > candidate.getVersion();
+    }
+
+    public void evict(UUID authorId, UUID userId) {
+        evictions.incrementAndGet();
+        if (authorId != null) {
+            byId.invalidate(authorId);
+        }
+        if (userId != null) {
+            byUserId.invalidate(userId);
+        }
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        bind(registry, byId, "authorsById");
+        bind(registry, byUserId, "authorsByUserId");
+    }
+
+    private static void bind(MeterRegistry registry, Cache<UUID, Author> cache, String name) {
+        CaffeineCacheMetrics.monitor(registry, cache, name);
+        Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+            .tag("cache", name)
+            .description("Hit ratio since startup")
+            .register(registry);
+    }
+}
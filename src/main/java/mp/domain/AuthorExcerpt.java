@@ -0,0 +1,17 @@
+package mp.domain;
+
+import java.util.UUID;
+import org.springframework.data.rest.core.config.Projection;
+
+/**
+ * Spring Data REST 컬렉션(/authors) 응답용 요약 (bio 제외)
+ * 단건 리소스는 그대로 전체 필드를 내려준다.
+ */
+@Projection(name = "summary", types = Author.class)
+public interface AuthorExcerpt {
+    UUID getId();
+    UUID getUserId();
+    String getName();
+    AuthorStatus getStatus();
+    String getPortfolioUrl();
+}
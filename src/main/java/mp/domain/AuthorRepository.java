@@ -1,16 +1,133 @@
 package mp.domain;
 
+import java.util.Collection;
 import java.util.UUID;
 import java.util.Optional;
 import java.util.List;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
+import org.springframework.transaction.annotation.Transactional;
 
 //<<< PoEAA / Repository
-@RepositoryRestResource(collectionResourceRel = "authors", path = "authors")
+@RepositoryRestResource(
+    collectionResourceRel = "authors",
+    path = "authors",
+    excerptProjection = AuthorExcerpt.class
+)
 public interface AuthorRepository
     extends PagingAndSortingRepository<Author, UUID> {
     
+    // 조회 전용 쿼리는 read-only 힌트로 dirty checking 스냅샷을 만들지 않는다.
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_READONLY, value = "true"))
     Optional<Author> findByUserId(UUID userId);
+
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_READONLY, value = "true"))
     List<Author> findByStatus(AuthorStatus status);
+
+    // Spring Data REST 컬렉션 조회
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_READONLY, value = "true"))
+    @Override
+    Page<Author> findAll(Pageable pageable);
+
+    // 일괄 등록 시 이미 신청한 사용자 확인 (ux_author_user_id)
+    @RestResource(exported = false)
+    @Query("select a.userId from Author a where a.userId in :userIds")
+    List<UUID> findExistingUserIds(@Param("userIds") Collection<UUID> userIds);
+
+    // 상태별 건수 (AuthorStatusCounters 시드/보정용, 복제 지연을 피하려고 primary 에서 읽는다)
+    @RestResource(exported = false)
+    @Transactional
+    @Query("select a.status as status, count(a) as total from Author a group by a.status")
+    List<StatusCount> countGroupByStatus();
+
+    // 키셋 페이지네이션 (id 기준)
+    // status 가 고정이라 order by status, id 는 order by id 와 같고, (status, id) 인덱스 순서를 그대로 쓸 수 있다.
+    @RestResource(exported = false)
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_READONLY, value = "true"))
+    @Query("select a from Author a where a.status = :status order by a.status, a.id")
+    List<Author> findByStatusOrderByIdAsc(@Param("status") AuthorStatus status, Pageable pageable);
+
+    @RestResource(exported = false)
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_READONLY, value = "true"))
+    @Query("select a from Author a where a.status = :status and a.id > :id order by a.status, a.id")
+    List<Author> findByStatusAndIdGreaterThanOrderByIdAsc(
+        @Param("status") AuthorStatus status,
+        @Param("id") UUID id,
+        Pageable pageable
+    );
+
+    // 요약 프로젝션 (bio 를 읽지 않고, 관리 엔티티도 만들지 않는다)
+    @RestResource(exported = false)
+    @Query(
+        "select new mp.domain.AuthorSummary(a.id, a.userId, a.name, a.status, a.portfolioUrl, a.version) " +
+        "from Author a where a.status = :status order by a.status, a.id"
+    )
+    List<AuthorSummary> findSummariesByStatus(@Param("status") AuthorStatus status, Pageable pageable);
+
+    @RestResource(exported = false)
+    @Query(
+        "select new mp.domain.AuthorSummary(a.id, a.userId, a.name, a.status, a.portfolioUrl, a.version) " +
+        "from Author a where a.status = :status and a.id > :after order by a.status, a.id"
+    )
+    List<AuthorSummary> findSummariesByStatusAfter(
+        @Param("status") AuthorStatus status,
+        @Param("after") UUID after,
+        Pageable pageable
+    );
+
+    @RestResource(exported = false)
+    @Query(
+        "select new mp.domain.AuthorSummary(a.id, a.userId, a.name, a.status, a.portfolioUrl, a.version) " +
+        "from Author a where a.id in :ids"
+    )
+    List<AuthorSummary> findSummariesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // PENDING 목록 집계 버전 (엔티티를 읽지 않는 집계 쿼리)
+    @RestResource(exported = false)
+    @Query(
+        "select count(a) as total, coalesce(sum(a.version), 0) as versionSum, max(a.id) as maxId " +
+        "from Author a where a.status = :status"
+    )
+    PendingListVersion findListVersionByStatus(@Param("status") AuthorStatus status);
+
+    // DB 커서 기반 스트리밍 조회 (트랜잭션 안에서만 사용)
+    @RestResource(exported = false)
+    @QueryHints({
+        @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_READONLY, value = "true")
+    })
+    @Query("select a from Author a where a.status = :status order by a.status, a.id")
+    Stream<Author> streamByStatus(@Param("status") AuthorStatus status);
+
+    // 전체 작가 스트리밍 (검색 색인 구축용)
+    @RestResource(exported = false)
+    @QueryHints({
+        @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_READONLY, value = "true")
+    })
+    @Query("select a from Author a")
+    Stream<Author> streamAll();
+
+    // 검색 색인 따라잡기 (id 가 시간순이라 id 보다 큰 행이 그 뒤에 들어온 행)
+    @RestResource(exported = false)
+    @Query("select max(a.id) from Author a")
+    UUID findMaxId();
+
+    @RestResource(exported = false)
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_READONLY, value = "true"))
+    @Query("select a from Author a order by a.id")
+    List<Author> findAllOrderByIdAsc(Pageable pageable);
+
+    @RestResource(exported = false)
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_READONLY, value = "true"))
+    @Query("select a from Author a where a.id > :after order by a.id")
+    List<Author> findByIdGreaterThanOrderByIdAsc(@Param("after") UUID after, Pageable pageable);
 }
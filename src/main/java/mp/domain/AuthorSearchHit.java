@@ -0,0 +1,25 @@
+package mp.domain;
+
+import java.util.UUID;
+
+/**
+ * 검색 결과 한 건 (작가 요약 + 점수)
+ */
+public class AuthorSearchHit {
+
+    private final AuthorSummary author;
+    private final double score;
+
+    public AuthorSearchHit(AuthorSummary author, double score) {
+        this.author = author;
+        this.score = score;
+    }
+
+    public UUID getId() { return author.getId(); }
+    public UUID getUserId() { return author.getUserId(); }
+    public String getName() { return author.getName(); }
+    public AuthorStatus getStatus() { return author.getStatus(); }
+    public String getPortfolioUrl() { return author.getPortfolioUrl(); }
+    public Long getVersion() { return author.getVersion(); }
+    public double getScore() { return score; }
+}
@@ -0,0 +1,557 @@
+package mp.domain;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import javax.annotation.PreDestroy;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.rest.core.annotation.HandleAfterCreate;
+import org.springframework.data.rest.core.annotation.HandleAfterDelete;
+import org.springframework.data.rest.core.annotation.HandleAfterSave;
+import org.springframework.data.rest.core.annotation.RepositoryEventHandler;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 관리자 검색용 메모리 역색인 (name, bio)
+ * - 기동 후 백그라운드 스레드에서 전체 작가를 DB 커서로 읽으면서 청크 단위로 여러 스레드에서 색인한다.
+ *   (기동/readiness 를 늦추지 않는다) 다 만들기 전에는 isReady() 가 false 이고 health 에 phase 로 보인다.
+ * - 이후에는 AuthorService 가 커밋 후에 바뀐 작가를 다시 색인한다. (Spring Data REST 변경은 저장/삭제 이벤트로 반영)
+ * - 다른 레플리카에서 바뀐 작가는 AuditCompleted 수신 시 DB 에서 다시 읽어 색인하고,
+ *   다른 레플리카에서 신청된 작가는 주기적으로 마지막으로 본 id 이후의 행을 읽어 따라잡는다. (id 는 시간순 UUID)
+ * - 용어 사전이 정렬되어 있어 질의어를 접두어로도 찾는다. ("작가" 로 "작가입니다" 검색)
+ * - 점수: 질의어마다 가장 잘 맞는 용어 하나의 가중치 (이름 3, 소개 1, 출현 횟수만큼), 접두어 일치는 절반
+ *   모든 질의어가 맞는 문서만 결과에 들어가고, 상위 limit 건만 힙으로 고른다.
+ */
+@Component
+@RepositoryEventHandler
+public class AuthorSearchIndex implements MeterBinder, HealthIndicator {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthorSearchIndex.class);
+
+    private static final float NAME_WEIGHT = 3f;
+    private static final float BIO_WEIGHT = 1f;
+    private static final float PREFIX_FACTOR = 0.5f;
+    private static final int MAX_TERM_LENGTH = 64;
+    private static final int MAX_BUILD_CHUNK_SIZE = 10_000;
+
+    enum Phase { WAITING, BUILDING, READY, FAILED }
+
+    // 메모리 추정치 (64bit, compressed oops 기준 대략값)
+    private static final long DOCUMENT_BYTES = 96;
+    private static final long TERM_BYTES = 160;
+    private static final long POSTING_BYTES = 64;
+
+    // 점수 내림차순, 같으면 id 순
+    private static final Comparator<Hit> RANKING =
+        Comparator.comparingDouble(Hit::getScore).reversed().thenComparing(Hit::getId);
+
+    // 용어 -> (문서 id -> 포스팅). 빈 포스팅 목록은 지우지 않는다. (용어 수만큼만 남는다)
+    private final ConcurrentSkipListMap<String, Map<UUID, Posting>> postings = new ConcurrentSkipListMap<>();
+    private final Map<UUID, Document> documents = new ConcurrentHashMap<>();
+    private final AtomicLong termCount = new AtomicLong();
+    private final AtomicLong postingCount = new AtomicLong();
+    private final AtomicLong estimatedBytes = new AtomicLong();
+
+    private final ApplicationContext context;
+    private final AuthorRepository authorRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int buildThreads;
+    private final int buildChunkSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Timer queryTimer;
+
+    // 구축이 끝난 뒤(READY)부터 따라잡기를 한다. catchUpAfter 는 마지막으로 따라잡은 id (null 이면 처음부터)
+    private volatile Phase phase = Phase.WAITING;
+    private volatile String lastError;
+    private volatile UUID catchUpAfter;
+    private volatile Thread builder;
+
+    public AuthorSearchIndex(
+        ApplicationContext context,
+        AuthorRepository authorRepository,
+        PlatformTransactionManager transactionManager,
+        @Value("${authors.search.build-threads:0}") int buildThreads,
+        @Value("${authors.search.build-chunk-size:1000}") int buildChunkSize
+    ) {
+        this.context = context;
+        this.authorRepository = authorRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.buildThreads = buildThreads > 0 ? buildThreads : Runtime.getRuntime().availableProcessors();
+        this.buildChunkSize = Math.max(1, Math.min(buildChunkSize, MAX_BUILD_CHUNK_SIZE));
+    }
+
+    public boolean isReady() {
+        return phase == Phase.READY;
+    }
+
+    /**
+     * 작가를 (다시) 색인한다. 이미 더 새 버전이 색인되어 있으면 무시한다.
+     */
+    public void index(Author author) {
+        if (author.getId() == null) {
+            return;
+        }
+        Document next = Document.of(author);
+        documents.compute(next.id, (id, previous) -> {
+            if (previous != null && previous.version > next.version) {
+                return previous;
+            }
+            if (previous != null) {
+                unlink(previous);
+            }
+            link(next);
+            return next;
+        });
+    }
+
+    /**
+     * DB 에서 다시 읽어 색인한다. (다른 레플리카의 변경, 없으면 제거)
+     */
+    public void reindex(UUID authorId) {
+        Optional<Author> author = authorRepository.findById(authorId);
+        if (author.isPresent()) {
+            index(author.get());
+        } else {
+            remove(authorId);
+        }
+    }
+
+    /**
+     * 마지막으로 본 id 이후에 들어온 작가를 색인한다.
+     */
+    @Scheduled(fixedDelayString = "${authors.search.catch-up-interval-ms:10000}")
+    public void catchUp() {
+        if (phase != Phase.READY) {
+            return;
+        }
+        List<Author> page;
+        do {
+            UUID after = catchUpAfter;
+            PageRequest first = PageRequest.of(0, buildChunkSize);
+            page = after == null
+                ? authorRepository.findAllOrderByIdAsc(first)
+                : authorRepository.findByIdGreaterThanOrderByIdAsc(after, first);
+            page.forEach(this::index);
+            if (!page.isEmpty()) {
+                catchUpAfter = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == buildChunkSize);
+    }
+
+    public void remove(UUID authorId) {
+        documents.computeIfPresent(authorId, (id, previous) -> {
+            unlink(previous);
+            return null;
+        });
+    }
+
+    /**
+     * 점수 내림차순 (같으면 id 순) 으로 최대 limit 건. statuses 가 비어 있으면 모든 상태
+     * 맞는 문서가 가장 적은 질의어의 포스팅만 훑고, 나머지 질의어는 문서의 정렬된 용어 배열에서 찾는다.
+     */
+    public List<Hit> search(String query, Set<AuthorStatus> statuses, int limit) {
+        long started = System.nanoTime();
+        try {
+            List<String> terms = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+            if (terms.isEmpty() || limit <= 0) {
+                return List.of();
+            }
+
+            String driver = null;
+            Map<String, Map<UUID, Posting>> driverPostings = null;
+            long driverSize = Long.MAX_VALUE;
+            int driverTerms = 0;
+            for (String term : terms) {
+                Map<String, Map<UUID, Posting>> matched = postings.subMap(term, true, term + Character.MAX_VALUE, false);
+                long size = 0;
+                int count = 0;
+                for (Map<UUID, Posting> ids : matched.values()) {
+                    size += ids.size();
+                    count++;
+                }
+                if (size < driverSize) {
+                    driver = term;
+                    driverPostings = matched;
+                    driverSize = size;
+                    driverTerms = count;
+                }
+            }
+            if (driverSize == 0) {
+                return List.of();
+            }
+            terms.remove(driver);
+
+            boolean filterStatus = statuses != null && !statuses.isEmpty();
+            // 접두어로 여러 용어가 맞으면 같은 문서가 여러 번 나오므로 한 번만 보고 점수는 문서에서 구한다.
+            Set<UUID> seen = driverTerms > 1 ? new HashSet<>() : null;
+            PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, RANKING.reversed());
+            for (Map.Entry<String, Map<UUID, Posting>> entry : driverPostings.entrySet()) {
+                float factor = entry.getKey().equals(driver) ? 1f : PREFIX_FACTOR;
+                for (Posting posting : entry.getValue().values()) {
+                    Document document = posting.document;
+                    if (filterStatus && !statuses.contains(document.status)) {
+                        continue;
+                    }
+                    if (seen != null && !seen.add(document.id)) {
+                        continue;
+                    }
+                    float score = seen != null ? document.score(driver) : posting.weight * factor;
+                    for (int i = 0; i < terms.size() && score > 0; i++) {
+                        float termScore = document.score(terms.get(i));
+                        score = termScore > 0 ? score + termScore : 0;
+                    }
+                    if (score > 0) {
+                        offer(top, new Hit(document.id, score), limit);
+                    }
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(top);
+            hits.sort(RANKING);
+            return hits;
+        } finally {
+            if (queryTimer != null) {
+                queryTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    /**
+     * 상위 limit 건만 남긴다. (힙의 머리가 가장 낮은 순위)
+     */
+    private static void offer(PriorityQueue<Hit> top, Hit hit, int limit) {
+        if (top.size() < limit) {
+            top.add(hit);
+        } else if (RANKING.compare(hit, top.peek()) < 0) {
+            top.poll();
+            top.add(hit);
+        }
+    }
+
+    private void link(Document document) {
+        for (int i = 0; i < document.terms.length; i++) {
+            String term = document.terms[i];
+            Map<UUID, Posting> ids = postings.get(term);
+            if (ids == null) {
+                Map<UUID, Posting> created = new ConcurrentHashMap<>();
+                ids = postings.putIfAbsent(term, created);
+                if (ids == null) {
+                    ids = created;
+                    termCount.incrementAndGet();
+                    estimatedBytes.addAndGet(TERM_BYTES + 2L * term.length());
+                }
+            }
+            if (ids.put(document.id, new Posting(document, document.weights[i])) == null) {
+                postingCount.incrementAndGet();
+                estimatedBytes.addAndGet(POSTING_BYTES);
+            }
+        }
+        estimatedBytes.addAndGet(document.estimatedBytes());
+    }
+
+    private void unlink(Document document) {
+        for (String term : document.terms) {
+            Map<UUID, Posting> ids = postings.get(term);
+            if (ids != null && ids.remove(document.id) != null) {
+                postingCount.decrementAndGet();
+                estimatedBytes.addAndGet(-POSTING_BYTES);
+            }
+        }
+        estimatedBytes.addAndGet(-document.estimatedBytes());
+    }
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        // 바인더 자식 컨텍스트의 ApplicationReadyEvent 도 올라오므로 이 컨텍스트의 것만 처리
+        if (event.getApplicationContext() == context) {
+            Thread thread = new Thread(this::buildInBackground, "search-index-build");
+            thread.setDaemon(true);
+            builder = thread;
+            thread.start();
+        }
+    }
+
+    private void buildInBackground() {
+        try {
+            build();
+        } catch (RuntimeException e) {
+            if (builder != null && builder.isInterrupted()) {
+                return; // 종료 중
+            }
+            phase = Phase.FAILED;
+            lastError = e.getMessage();
+            log.error("Search index build failed", e);
+        } finally {
+            builder = null;
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        Thread thread = builder;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = phase == Phase.READY ? Health.up()
+            : phase == Phase.FAILED ? Health.down() : Health.unknown();
+        builder.withDetail("phase", phase).withDetail("documents", documents.size());
+        if (lastError != null) {
+            builder.withDetail("error", lastError);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 전체 작가를 색인한다. (기동 시)
+     * 읽기는 하나의 DB 커서로 하고, 토큰화/색인은 청크 단위로 build-threads 개 스레드에서 나눠 한다.
+     */
+    public void build() {
+        phase = Phase.BUILDING;
+        long started = System.nanoTime();
+        ExecutorService workers = Executors.newFixedThreadPool(buildThreads, new CustomizableThreadFactory("search-index-"));
+        // 커서가 색인보다 너무 앞서 나가 청크가 쌓이지 않도록
+        Semaphore inFlight = new Semaphore(buildThreads * 2);
+        AtomicLong scanned = new AtomicLong();
+        // 구축 중에 들어온 행은 이 id 이후부터 catchUp 이 색인한다.
+        UUID watermark = authorRepository.findMaxId();
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<Author> authors = authorRepository.streamAll()) {
+                    List<Author> chunk = new ArrayList<>(buildChunkSize);
+                    authors.forEach(author -> {
+                        if (Thread.currentThread().isInterrupted()) {
+                            throw new CancellationException("Search index build interrupted");
+                        }
+                        entityManager.detach(author);
+                        chunk.add(author);
+                        scanned.incrementAndGet();
+                        if (chunk.size() == buildChunkSize) {
+                            submit(workers, inFlight, new ArrayList<>(chunk));
+                            chunk.clear();
+                        }
+                    });
+                    submit(workers, inFlight, chunk);
+                }
+            });
+        } finally {
+            workers.shutdown();
+            try {
+                workers.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        catchUpAfter = watermark;
+        lastError = null;
+        phase = Phase.READY;
+        log.info("Search index built: {} authors, {} terms in {} ms",
+            scanned.get(), termCount.get(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    private void submit(ExecutorService workers, Semaphore inFlight, List<Author> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        inFlight.acquireUninterruptibly();
+        workers.execute(() -> {
+            try {
+                chunk.forEach(this::index);
+            } finally {
+                inFlight.release();
+            }
+        });
+    }
+
+    @HandleAfterCreate
+    @HandleAfterSave
+    public void afterRestSave(Author author) {
+        index(author);
+    }
+
+    @HandleAfterDelete
+    public void afterRestDelete(Author author) {
+        remove(author.getId());
+    }
+
+    /**
+     * 소문자로 바꾼 뒤 글자/숫자가 아닌 문자로 나눈다. (한글은 음절 그대로 한 단어)
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean letter = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                if (i - start <= MAX_TERM_LENGTH) {
+                    tokens.add(lower.substring(start, i));
+                }
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        Gauge.builder("authors.search.index.documents", documents, Map::size)
+            .description("Authors in the search index")
+            .register(registry);
+        Gauge.builder("authors.search.index.terms", termCount, AtomicLong::get)
+            .description("Distinct terms in the search index")
+            .register(registry);
+        Gauge.builder("authors.search.index.postings", postingCount, AtomicLong::get)
+            .description("Term to author entries in the search index")
+            .register(registry);
+        Gauge.builder("authors.search.index.memory", estimatedBytes, AtomicLong::get)
+            .baseUnit("bytes")
+            .description("Estimated heap used by the search index")
+            .register(registry);
+        queryTimer = Timer.builder("authors.search.query")
+            .description("Search index query time")
+            .register(registry);
+    }
+
+    public static final class Hit {
+
+        private final UUID id;
+        private final double score;
+
+        Hit(UUID id, double score) {
+            this.id = id;
+            this.score = score;
+        }
+
+        public UUID getId() { return id; }
+        public double getScore() { return score; }
+    }
+
+    /**
+     * 용어 하나에 대한 문서와 그 용어의 가중치 (질의 시 문서 조회/용어 탐색을 줄인다)
+     */
+    private static final class Posting {
+
+        final Document document;
+        final float weight;
+
+        Posting(Document document, float weight) {
+            this.document = document;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * 색인된 작가 한 명: 정렬된 용어 배열과 용어별 가중치
+     */
+    private static final class Document {
+
+        final UUID id;
+        final AuthorStatus status;
+        final long version;
+        final String[] terms;
+        final float[] weights;
+
+        private Document(UUID id, AuthorStatus status, long version, String[] terms, float[] weights) {
+            this.id = id;
+            this.status = status;
+            this.version = version;
+            this.terms = terms;
+            this.weights = weights;
+        }
+
+        static Document of(Author author) {
+            Map<String, Float> weighted = new TreeMap<>();
+            for (String token : tokenize(author.getName())) {
+                weighted.merge(token, NAME_WEIGHT, Float::sum);
+            }
+            for (String token : tokenize(author.getBio())) {
+                weighted.merge(token, BIO_WEIGHT, Float::sum);
+            }
+            String[] terms = new String[weighted.size()];
+            float[] weights = new float[weighted.size()];
+            int i = 0;
+            for (Map.Entry<String, Float> entry : weighted.entrySet()) {
+                terms[i] = entry.getKey();
+                weights[i++] = entry.getValue();
+            }
+            long version = author.getVersion() != null ? author.getVersion() : 0L;
+            return new Document(author.getId(), author.getStatus(), version, terms, weights);
+        }
+
+        /**
+         * term 과 같거나 term 으로 시작하는 용어 중 가장 높은 점수 (없으면 0)
+         */
+        float score(String term) {
+            int i = Arrays.binarySearch(terms, term);
+            float best = 0f;
+            if (i >= 0) {
+                best = weights[i++];
+            } else {
+                i = -i - 1;
+            }
+            for (; i < terms.length && terms[i].startsWith(term); i++) {
+                best = Math.max(best, weights[i] * PREFIX_FACTOR);
+            }
+            return best;
+        }
+
+        long estimatedBytes() {
+            long bytes = DOCUMENT_BYTES + 8L * terms.length;
+            for (String term : terms) {
+                bytes += 40 + 2L * term.length();
+            }
+            return bytes;
+        }
+    }
+}
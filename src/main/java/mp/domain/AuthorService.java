@@ -1,34 +1,122 @@
 package mp.domain;
 
+import io.micrometer.core.annotation.Timed;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import mp.infra.OutboxEventStore;
+import mp.infra.StatusStreamRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @Transactional
 public class AuthorService {
 
+    // 메서드별 실행 시간 (class/method/exception 태그, 분위수는 application.yml)
+    private static final String METRIC = "authors.service";
+
     @Autowired
     private AuthorRepository authorRepository;
 
+    @Autowired
+    private OutboxEventStore outboxEventStore;
+
+    @Autowired
+    private AuthorCache authorCache;
+
+    @Autowired
+    private AuthorStatusCounters statusCounters;
+
+    @Autowired
+    private AuthorSearchIndex searchIndex;
+
+    @Autowired
+    private StatusStreamRegistry statusStreamRegistry;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     /**
      * 작가 신청 처리
      */
+    @Timed(METRIC)
     public Author applyAuthor(Author author) {
         // Set initial status to pending if not provided
         if (author.getStatus() == null) {
             author.setStatus(AuthorStatus.PENDING);
         }
         
-        return authorRepository.save(author);
+        Author saved = authorRepository.save(author);
+        AuthorStatus status = saved.getStatus();
+        afterCommit(() -> {
+            authorCache.evict(saved.getId(), saved.getUserId());
+            statusCounters.added(status);
+            searchIndex.index(saved);
+        });
+        return saved;
+    }
+
+    /**
+     * 작가 신청 일괄 등록 (관리자용, 이관/재처리)
+     * 한 번 호출이 한 트랜잭션이며, 이미 신청한 사용자는 건너뛰고 그 userId 를 돌려준다.
+     * insert 는 JDBC batch 로 나가고, 끝나면 flush/clear 해서 영속성 컨텍스트를 비운다.
+     * 신규 등록은 이벤트를 발행하지 않는다. (AuditCompleted 는 심사 시에만 발생)
+     */
+    @Timed(METRIC)
+    public Set<UUID> importAuthors(List<Author> authors) {
+        List<UUID> userIds = new ArrayList<>(authors.size());
+        for (Author author : authors) {
+            userIds.add(author.getUserId());
+        }
+        Set<UUID> existing = new HashSet<>(authorRepository.findExistingUserIds(userIds));
+
+        Map<AuthorStatus, Long> added = new EnumMap<>(AuthorStatus.class);
+        List<Author> persisted = new ArrayList<>(authors.size());
+        for (Author author : authors) {
+            if (existing.contains(author.getUserId())) {
+                continue;
+            }
+            if (author.getStatus() == null) {
+                author.setStatus(AuthorStatus.PENDING);
+            }
+            entityManager.persist(author);
+            added.merge(author.getStatus(), 1L, Long::sum);
+            persisted.add(author);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        afterCommit(() -> {
+            added.forEach(statusCounters::added);
+            persisted.forEach(searchIndex::index);
+        });
+        return existing;
     }
 
     /**
      * 전체 작가 신청 목록 조회 (관리자용)
      */
+    @Timed(METRIC)
+    @Transactional(readOnly = true)
     public List<Author> getAllAuthors() {
         return (List<Author>) authorRepository.findAll();
     }
@@ -36,20 +124,124 @@ public class AuthorService {
     /**
      * PENDING 상태인 작가 신청 목록 조회 (관리자용)
      */
+    @Timed(METRIC)
+    @Transactional(readOnly = true)
     public List<Author> getPendingAuthors() {
         return authorRepository.findByStatus(AuthorStatus.PENDING);
     }
 
+    /**
+     * PENDING 상태인 작가 신청 목록을 id 키셋 기준으로 한 페이지 조회 (관리자용)
+     * after 가 null 이면 첫 페이지
+     */
+    @Timed(METRIC)
+    @Transactional(readOnly = true)
+    public List<Author> getPendingAuthors(UUID after, int size) {
+        Pageable page = PageRequest.of(0, size);
+        if (after == null) {
+            return authorRepository.findByStatusOrderByIdAsc(AuthorStatus.PENDING, page);
+        }
+        return authorRepository.findByStatusAndIdGreaterThanOrderByIdAsc(AuthorStatus.PENDING, after, page);
+    }
+
+    /**
+     * PENDING 목록 요약(bio 제외)을 id 키셋 기준으로 한 페이지 조회 (관리자용)
+     * 필요한 컬럼만 DTO 로 읽으므로 엔티티 로딩/dirty checking 비용이 없다.
+     */
+    @Timed(METRIC)
+    @Transactional(readOnly = true)
+    public List<AuthorSummary> getPendingAuthorSummaries(UUID after, int size) {
+        Pageable page = PageRequest.of(0, size);
+        if (after == null) {
+            return authorRepository.findSummariesByStatus(AuthorStatus.PENDING, page);
+        }
+        return authorRepository.findSummariesByStatusAfter(AuthorStatus.PENDING, after, page);
+    }
+
+    /**
+     * PENDING 목록의 집계 버전 (목록이 바뀌었는지 확인용)
+     */
+    @Timed(METRIC)
+    @Transactional(readOnly = true)
+    public String getPendingListVersion() {
+        return authorRepository.findListVersionByStatus(AuthorStatus.PENDING).asToken();
+    }
+
+    /**
+     * PENDING 상태인 작가 신청을 DB 커서로 하나씩 흘려보낸다 (관리자용)
+     * 처리한 엔티티는 바로 detach 해서 영속성 컨텍스트가 커지지 않게 한다.
+     */
+    @Timed(METRIC)
+    @Transactional(readOnly = true)
+    public void streamPendingAuthors(Consumer<Author> consumer) {
+        try (Stream<Author> authors = authorRepository.streamByStatus(AuthorStatus.PENDING)) {
+            authors.forEach(author -> {
+                consumer.accept(author);
+                entityManager.detach(author);
+            });
+        }
+    }
+
+    /**
+     * 검색 색인을 다 만들었는지 (기동 직후에는 백그라운드에서 만드는 중)
+     */
+    public boolean isSearchReady() {
+        return searchIndex.isReady();
+    }
+
+    /**
+     * 이름/소개 검색 (관리자용)
+     * 메모리 역색인에서 점수순으로 id 를 고른 뒤 그 행의 요약만 IN 조회로 읽는다.
+     * 색인 이후 지워졌거나 상태가 바뀐 행은 결과에서 빠진다.
+     */
+    @Timed(METRIC)
+    @Transactional(readOnly = true)
+    public List<AuthorSearchHit> searchAuthors(String query, Set<AuthorStatus> statuses, int size) {
+        List<AuthorSearchIndex.Hit> hits = searchIndex.search(query, statuses, size);
+        if (hits.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<UUID> ids = new ArrayList<>(hits.size());
+        for (AuthorSearchIndex.Hit hit : hits) {
+            ids.add(hit.getId());
+        }
+        Map<UUID, AuthorSummary> summaries = new HashMap<>();
+        authorRepository.findSummariesByIdIn(ids)
+            .forEach(summary -> summaries.put(summary.getId(), summary));
+
+        List<AuthorSearchHit> results = new ArrayList<>(hits.size());
+        for (AuthorSearchIndex.Hit hit : hits) {
+            AuthorSummary summary = summaries.get(hit.getId());
+            if (summary != null && (statuses == null || statuses.isEmpty() || statuses.contains(summary.getStatus()))) {
+                results.add(new AuthorSearchHit(summary, hit.getScore()));
+            }
+        }
+        return results;
+    }
+
     /**
      * 작가 심사 처리 (관리자용)
      */
+    @Timed(METRIC)
     public Optional<Author> reviewAuthor(UUID authorId, Boolean approved) {
         Optional<Author> authorOpt = authorRepository.findById(authorId);
         
         if (authorOpt.isPresent()) {
             Author author = authorOpt.get();
-            author.setStatus(approved ? AuthorStatus.APPROVED : AuthorStatus.REJECTED);
+            AuthorStatus previous = author.getStatus();
+            AuthorStatus next = approved ? AuthorStatus.APPROVED : AuthorStatus.REJECTED;
+            if (previous == next) {
+                // 상태가 그대로면 쓰기/이벤트/캐시 무효화 모두 생략
+                return authorOpt;
+            }
+            author.setStatus(next);
             Author updatedAuthor = authorRepository.save(author);
+            afterCommit(() -> {
+                authorCache.evict(updatedAuthor.getId(), updatedAuthor.getUserId());
+                statusCounters.changed(previous, next);
+                searchIndex.index(updatedAuthor);
+                publishStatus(updatedAuthor);
+            });
             return Optional.of(updatedAuthor);
         }
         
@@ -57,16 +249,111 @@ public class AuthorService {
     }
 
     /**
-     * 특정 작가 조회
+     * 상태 스트림(SSE) 구독자에게 바로 보낸다. Kafka 가 없거나 바인딩이 아직 시작되지 않아도 전달된다.
+     */
+    private void publishStatus(Author author) {
+        statusStreamRegistry.publish(
+            author.getUserId(),
+            new StatusStreamRegistry.StatusUpdate(author.getId(), author.getStatus().getValue(), author.getVersion())
+        );
+    }
+
+    /**
+     * 작가 일괄 심사 처리 (관리자용)
+     * 한 번의 IN 조회 후 변경분을 JDBC batch UPDATE 로 flush 하고,
+     * 발생한 AuditCompleted 이벤트도 outbox 에 batch insert 로 기록한다.
      */
+    @Timed(METRIC)
+    public Map<UUID, ReviewOutcome> reviewAuthors(Map<UUID, Boolean> decisions) {
+        Map<UUID, Author> authors = new HashMap<>();
+        authorRepository.findAllById(decisions.keySet())
+            .forEach(author -> authors.put(author.getId(), author));
+
+        return outboxEventStore.appendBatched(() -> {
+            Map<UUID, ReviewOutcome> outcomes = new LinkedHashMap<>();
+            decisions.forEach((authorId, approved) -> {
+                Author author = authors.get(authorId);
+                if (author == null) {
+                    outcomes.put(authorId, ReviewOutcome.NOT_FOUND);
+                } else if (approved == null) {
+                    outcomes.put(authorId, ReviewOutcome.INVALID);
+                } else {
+                    AuthorStatus previous = author.getStatus();
+                    AuthorStatus next = approved ? AuthorStatus.APPROVED : AuthorStatus.REJECTED;
+                    if (previous == next) {
+                        outcomes.put(authorId, ReviewOutcome.UNCHANGED);
+                        return;
+                    }
+                    author.setStatus(next);
+                    outcomes.put(authorId, ReviewOutcome.UPDATED);
+                    afterCommit(() -> {
+                        authorCache.evict(author.getId(), author.getUserId());
+                        statusCounters.changed(previous, next);
+                        searchIndex.index(author);
+                        publishStatus(author);
+                    });
+                }
+            });
+            // @PostUpdate 이벤트가 appendBatched 범위 안에서 발생하도록 여기서 flush
+            entityManager.flush();
+            return outcomes;
+        });
+    }
+
+    /**
+     * 상태별 작가 신청 건수 (메모리 카운터, DB 조회 없음)
+     */
+    @Timed(METRIC)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Map<AuthorStatus, Long> getStatusCounts() {
+        return statusCounters.snapshot();
+    }
+
+    /**
+     * 특정 작가 조회 (near cache, 캐시 적중 시 트랜잭션/DB 접근 없음)
+     */
+    @Timed(METRIC)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Optional<Author> getAuthorById(UUID authorId) {
-        return authorRepository.findById(authorId);
+        return authorCache.getById(authorId, authorRepository::findById);
     }
 
     /**
-     * 사용자 ID로 작가 신청 조회
+     * 여러 작가 ID의 사용자 ID를 한 번의 IN 조회로 가져온다. (없는 ID는 결과에서 빠진다)
      */
+    @Timed(METRIC)
+    @Transactional(readOnly = true)
+    public Map<UUID, UUID> getUserIdsByAuthorIds(Collection<UUID> authorIds) {
+        Map<UUID, UUID> userIds = new HashMap<>();
+        authorRepository.findSummariesByIdIn(authorIds)
+            .forEach(summary -> userIds.put(summary.getId(), summary.getUserId()));
+        return userIds;
+    }
+
+    /**
+     * 사용자 ID로 작가 신청 조회 (near cache, 캐시 적중 시 트랜잭션/DB 접근 없음)
+     */
+    @Timed(METRIC)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Optional<Author> getAuthorByUserId(UUID userId) {
-        return authorRepository.findByUserId(userId);
+        return authorCache.getByUserId(userId, authorRepository::findByUserId);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 실행 (트랜잭션이 없으면 바로 실행)
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            }
+        );
     }
 } 
\ No newline at end of file
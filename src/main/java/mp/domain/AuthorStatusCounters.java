@@ -0,0 +1,138 @@
+package mp.domain;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상태별 작가 신청 건수 (메모리 카운터)
+ * - 기동 시 group by 집계 한 번으로 채우고, 이후에는 AuthorService 가 커밋 후에 증감한다.
+ * - Spring Data REST 로 직접 바뀐 행이나 보정 중에 끼어든 변경처럼 놓친 증감은
+ *   주기적인 재집계(reconcile)로 맞춘다.
+ * - 시드/재집계는 값을 덮어쓰지 않고 (DB 집계 - 집계 직전 카운터) 만큼만 더한다.
+ *   집계 중에 커밋 후 증감이 들어와도 지워지지 않는다. 커밋과 커밋 후 증감 사이에 집계가 끼면
+ *   한 건이 두 번 반영될 수 있지만, 다음 재집계에서 다시 맞춰진다.
+ */
+@Component
+public class AuthorStatusCounters implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthorStatusCounters.class);
+
+    private final ApplicationContext context;
+    private final AuthorRepository authorRepository;
+    private final Map<AuthorStatus, AtomicLong> counts = new EnumMap<>(AuthorStatus.class);
+    private Counter driftCounter;
+
+    public AuthorStatusCounters(ApplicationContext context, AuthorRepository authorRepository) {
+        this.context = context;
+        this.authorRepository = authorRepository;
+        for (AuthorStatus status : AuthorStatus.values()) {
+            counts.put(status, new AtomicLong());
+        }
+    }
+
+    public void added(AuthorStatus status) {
+        added(status, 1);
+    }
+
+    public void added(AuthorStatus status, long count) {
+        if (status != null) {
+            counts.get(status).addAndGet(count);
+        }
+    }
+
+    public void changed(AuthorStatus from, AuthorStatus to) {
+        if (from == to) {
+            return;
+        }
+        if (from != null) {
+            counts.get(from).decrementAndGet();
+        }
+        added(to);
+    }
+
+    public long get(AuthorStatus status) {
+        return counts.get(status).get();
+    }
+
+    public Map<AuthorStatus, Long> snapshot() {
+        Map<AuthorStatus, Long> snapshot = new EnumMap<>(AuthorStatus.class);
+        counts.forEach((status, count) -> snapshot.put(status, count.get()));
+        return snapshot;
+    }
+
+    /**
+     * 기동 시 DB 집계로 카운터를 채운다.
+     */
+    @EventListener
+    public void seed(ApplicationReadyEvent event) {
+        // 바인더 자식 컨텍스트의 ApplicationReadyEvent 도 올라오므로 이 컨텍스트의 것만 처리
+        if (event.getApplicationContext() == context) {
+            applyDatabaseCounts(false);
+        }
+    }
+
+    /**
+     * DB 집계와 비교해 어긋난 카운터를 바로잡는다.
+     */
+    @Scheduled(
+        initialDelayString = "${authors.stats.reconcile-interval-ms:300000}",
+        fixedDelayString = "${authors.stats.reconcile-interval-ms:300000}"
+    )
+    public void reconcile() {
+        applyDatabaseCounts(true);
+    }
+
+    private void applyDatabaseCounts(boolean reportDrift) {
+        Map<AuthorStatus, Long> observed = snapshot();
+        countFromDatabase().forEach((status, total) -> {
+            long delta = total - observed.get(status);
+            if (delta == 0) {
+                return;
+            }
+            long current = counts.get(status).addAndGet(delta);
+            if (reportDrift) {
+                log.info("Reconciled {} count: {} ({}{})", status, current, delta > 0 ? "+" : "", delta);
+                if (driftCounter != null) {
+                    driftCounter.increment(Math.abs(delta));
+                }
+            }
+        });
+    }
+
+    private Map<AuthorStatus, Long> countFromDatabase() {
+        Map<AuthorStatus, Long> totals = new EnumMap<>(AuthorStatus.class);
+        for (AuthorStatus status : AuthorStatus.values()) {
+            totals.put(status, 0L);
+        }
+        for (StatusCount row : authorRepository.countGroupByStatus()) {
+            if (row.getStatus() != null) {
+                totals.put(row.getStatus(), row.getTotal());
+            }
+        }
+        return totals;
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        Gauge.builder("authors.backlog", counts.get(AuthorStatus.PENDING), AtomicLong::get)
+            .tag("status", AuthorStatus.PENDING.name())
+            .description("Author applications waiting for review")
+            .register(registry);
+        driftCounter = Counter.builder("authors.status.counters.drift")
+            .description("Corrections applied to status counters by reconciliation")
+            .register(registry);
+    }
+}
@@ -0,0 +1,51 @@
+package mp.domain;
+
+import java.util.UUID;
+
+/**
+ * 목록/조회용 작가 요약 (bio 제외)
+ * JPQL 생성자 표현식으로 필요한 컬럼만 읽으므로 영속성 컨텍스트에 엔티티가 쌓이지 않는다.
+ */
+public class AuthorSummary {
+
+    private final UUID id;
+    private final UUID userId;
+    private final String name;
+    private final AuthorStatus status;
+    private final String portfolioUrl;
+    private final Long version;
+
+    public AuthorSummary(
+        UUID id,
+        UUID userId,
+        String name,
+        AuthorStatus status,
+        String portfolioUrl,
+        Long version
+    ) {
+        this.id = id;
+        this.userId = userId;
+        this.name = name;
+        this.status = status;
+        this.portfolioUrl = portfolioUrl;
+        this.version = version;
+    }
+
+    public static AuthorSummary of(Author author) {
+        return new AuthorSummary(
+            author.getId(),
+            author.getUserId(),
+            author.getName(),
+            author.getStatus(),
+            author.getPortfolioUrl(),
+            author.getVersion()
+        );
+    }
+
+    public UUID getId() { return id; }
+    public UUID getUserId() { return userId; }
+    public String getName() { return name; }
+    public AuthorStatus getStatus() { return status; }
+    public String getPortfolioUrl() { return portfolioUrl; }
+    public Long getVersion() { return version; }
+}
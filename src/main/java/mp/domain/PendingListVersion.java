@@ -0,0 +1,17 @@
+package mp.domain;
+
+import java.util.UUID;
+
+/**
+ * PENDING 목록 전체의 버전 (조건부 GET 용)
+ * 신청 추가/삭제, 심사, 수정 중 하나라도 일어나면 값이 바뀐다.
+ */
+public interface PendingListVersion {
+    long getTotal();
+    long getVersionSum();
+    UUID getMaxId();
+
+    default String asToken() {
+        return getTotal() + ":" + getVersionSum() + ":" + getMaxId();
+    }
+}
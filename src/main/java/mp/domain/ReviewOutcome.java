@@ -0,0 +1,11 @@
+package mp.domain;
+
+/**
+ * 일괄 심사에서 항목별 처리 결과
+ */
+public enum ReviewOutcome {
+    UPDATED,
+    UNCHANGED,
+    NOT_FOUND,
+    INVALID
+}
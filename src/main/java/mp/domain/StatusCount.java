@@ -0,0 +1,9 @@
+package mp.domain;
+
+/**
+ * 상태별 작가 신청 건수 (group by 집계 결과)
+ */
+public interface StatusCount {
+    AuthorStatus getStatus();
+    long getTotal();
+}
@@ -1,28 +1,23 @@
 package mp.infra;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import mp.AuthorsApplication;
 import mp.config.kafka.KafkaProcessor;
-import org.springframework.beans.BeanUtils;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.messaging.MessageChannel;
-import org.springframework.messaging.MessageHeaders;
-import org.springframework.messaging.support.MessageBuilder;
-import org.springframework.transaction.support.TransactionSynchronizationAdapter;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
-import org.springframework.util.MimeTypeUtils;
 
 //<<< Clean Arch / Outbound Adaptor
 public class AbstractEvent {
 
+    // 발행할 때마다 빈을 찾지 않도록 조회해 둔다. 조회한 컨텍스트가 바뀌거나 닫히면 다시 조회한다.
+    private static volatile Beans beans;
+
     String eventType;
     Long timestamp;
 
-    public AbstractEvent(Object aggregate) {
-        this();
-        BeanUtils.copyProperties(aggregate, this);
-    }
-
     public AbstractEvent() {
         this.setEventType(this.getClass().getSimpleName());
         this.timestamp = System.currentTimeMillis();
@@ -32,32 +27,36 @@ public class AbstractEvent {
         /**
          * spring streams 방식
          */
-        KafkaProcessor processor = AuthorsApplication.applicationContext.getBean(
-            KafkaProcessor.class
-        );
-        MessageChannel outputChannel = processor.authorReviewOut();
-
-        outputChannel.send(
-            MessageBuilder
-                .withPayload(this)
-                .setHeader(
-                    MessageHeaders.CONTENT_TYPE,
-                    MimeTypeUtils.APPLICATION_JSON
+        Timer.Sample sample = Timer.start(Metrics.globalRegistry);
+        boolean sent = false;
+        try {
+            EventCodec.Encoded encoded = beans().eventCodec.encode(this);
+            sent = beans().outputChannel.send(
+                EventMessages.toMessage(
+                    encoded.getPayload(),
+                    encoded.getContentType(),
+                    getEventType(),
+                    getAggregateId()
                 )
-                .setHeader("type", getEventType())
-                .build()
-        );
+            );
+        } finally {
+            PublishMetrics.record(Metrics.globalRegistry, sample, "direct", getEventType(), sent);
+        }
     }
 
+    /**
+     * 현재 트랜잭션과 함께 outbox 테이블에 기록하고, 커밋된 이벤트만 OutboxRelay가 발행한다.
+     */
     public void publishAfterCommit() {
-        TransactionSynchronizationManager.registerSynchronization(
-            new TransactionSynchronizationAdapter() {
-                @Override
-                public void afterCompletion(int status) {
-                    AbstractEvent.this.publish();
-                }
-            }
-        );
+        beans().outboxEventStore.append(this);
+    }
+
+    /**
+     * 이벤트가 속한 애그리거트 ID (outbox 기록용)
+     */
+    @JsonIgnore
+    public String getAggregateId() {
+        return null;
     }
 
     public String getEventType() {
@@ -81,16 +80,38 @@ public class AbstractEvent {
     }
 
     public String toJson() {
-        ObjectMapper objectMapper = new ObjectMapper();
-        String json = null;
+        return EventSerializer.toJson(this);
+    }
 
-        try {
-            json = objectMapper.writeValueAsString(this);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("JSON format exception", e);
+    private static Beans beans() {
+        ApplicationContext context = AuthorsApplication.applicationContext;
+        Beans current = beans;
+        if (current == null || current.context != context || !isActive(context)) {
+            // 닫힌 컨텍스트면 getBean 이 IllegalStateException 을 던진다
+            current = new Beans(context);
+            beans = current;
         }
+        return current;
+    }
+
+    private static boolean isActive(ApplicationContext context) {
+        return !(context instanceof ConfigurableApplicationContext)
+            || ((ConfigurableApplicationContext) context).isActive();
+    }
 
-        return json;
+    private static final class Beans {
+
+        final ApplicationContext context;
+        final MessageChannel outputChannel;
+        final OutboxEventStore outboxEventStore;
+        final EventCodec eventCodec;
+
+        Beans(ApplicationContext context) {
+            this.context = context;
+            this.outputChannel = context.getBean(KafkaProcessor.class).authorReviewOut();
+            this.outboxEventStore = context.getBean(OutboxEventStore.class);
+            this.eventCodec = context.getBean(EventCodec.class);
+        }
     }
 }
 //>>> Clean Arch / Outbound Adaptor
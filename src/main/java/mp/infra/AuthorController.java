@@ -1,16 +1,42 @@
 package mp.infra;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import mp.domain.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import lombok.RequiredArgsConstructor;
 
 //<<< Clean Arch / Inbound Adaptor
@@ -20,79 +46,461 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class AuthorController {
 
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    // 캐시는 하되 매번 ETag 로 재검증
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+    // /list 의 fields 로 고를 수 있는 필드 (bio 가 포함되면 엔티티로 조회)
+    private static final Set<String> LIST_FIELDS = Set.of(
+        "id", "userId", "name", "status", "portfolioUrl", "version", "bio"
+    );
+
     private final AuthorService authorService;
+    private final ObjectMapper objectMapper;
+    private final StatusStreamRegistry statusStreamRegistry;
+    private final IdempotencyStore idempotencyStore;
+    private final Bulkheads bulkheads;
+
+    @Value("${authors.list.default-page-size:100}")
+    private int defaultPageSize;
+
+    @Value("${authors.list.max-page-size:500}")
+    private int maxPageSize;
+
+    @Value("${authors.search.default-size:20}")
+    private int defaultSearchSize;
+
+    @Value("${authors.search.max-size:100}")
+    private int maxSearchSize;
+
+    @Value("${authors.review.batch.max-size:1000}")
+    private int maxReviewBatchSize;
+
+    @Value("${authors.import.batch-size:500}")
+    private int importBatchSize;
 
+    @Value("${authors.import.max-reported-errors:1000}")
+    private int maxImportErrors;
+
+    @Value("${authors.user-ids.max-batch-size:500}")
+    private int maxUserIdsBatchSize;
+
+    @Value("${authors.user-ids.cache-max-age-seconds:300}")
+    private long userIdsMaxAgeSeconds;
+
+    /**
+     * 작가 신청
+     * Idempotency-Key 를 주면 같은 키의 재시도에는 처음 응답을 그대로 돌려준다. (Idempotent-Replayed: true)
+     * 같은 키의 요청이 아직 처리 중이면 기다리지 않고 409 + Retry-After 로 응답한다.
+     */
     @PostMapping("/apply")
     @PreAuthorize("hasRole('USER') or hasRole('AUTHOR') or hasRole('ADMIN')")
-    public ResponseEntity<SimpleResponse> applyAuthor(@RequestBody Author author) {
-        try {
-            // Spring Security에서 현재 인증된 사용자 ID 가져오기
-            UUID userId = getCurrentUserId();
-            author.setUserId(userId);
-            
-            authorService.applyAuthor(author);
-            return ResponseEntity.ok(new SimpleResponse(true));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(new SimpleResponse(false));
-        }
+    public CompletableFuture<ResponseEntity<SimpleResponse>> applyAuthor(
+        @RequestBody Author author,
+        @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey
+    ) {
+        // Spring Security에서 현재 인증된 사용자 ID 가져오기
+        UUID userId = getCurrentUserId();
+        return bulkheads.write(() -> idempotencyStore.execute(userId, "apply", idempotencyKey, fingerprint(author), () -> {
+            try {
+                author.setUserId(userId);
+                author.setVersion(null);
+
+                authorService.applyAuthor(author);
+                return ResponseEntity.ok(new SimpleResponse(true));
+            } catch (DataIntegrityViolationException e) {
+                // ux_author_user_id: 이미 신청한 사용자
+                return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(new SimpleResponse(false));
+            } catch (Exception e) {
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new SimpleResponse(false));
+            }
+        }));
     }
 
+    /**
+     * 대기 중인 작가 목록 (키셋 페이지네이션)
+     * 다음 페이지가 있으면 X-Next-Cursor 헤더로 마지막 id 를 내려주고, 클라이언트는 after 로 넘긴다.
+     * fields=id,name,... 를 주면 해당 필드만 내려주며, bio 가 없으면 요약 프로젝션으로 조회한다.
+     */
     @GetMapping("/list")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<List<Author>>> listAuthors() {
-        try {
-            List<Author> authors = authorService.getPendingAuthors();
+    public CompletableFuture<ResponseEntity<ApiResponse<List<?>>>> listAuthors(
+        @RequestParam(value = "after", required = false) UUID after,
+        @RequestParam(value = "size", required = false) Integer size,
+        @RequestParam(value = "fields", required = false) String fieldsParam,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        Set<String> fields = parseFields(fieldsParam);
+        if (fields != null && (fields.isEmpty() || !LIST_FIELDS.containsAll(fields))) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest()
+                .body(new ApiResponse<>(false, "fields 는 " + LIST_FIELDS + " 중에서 선택해야 합니다.", null)));
+        }
+
+        return bulkheads.read(() -> {
+            try {
+                int pageSize = resolvePageSize(size);
+                String etag = ETags.strong(
+                    "pending:" + authorService.getPendingListVersion() + ":" + after + ":" + pageSize + ":" + fields
+                );
+                if (ETags.matches(ifNoneMatch, etag)) {
+                    return notModified(etag);
+                }
+
+                List<?> rows;
+                UUID lastId = null;
+                if (fields == null) {
+                    List<Author> authors = authorService.getPendingAuthors(after, pageSize);
+                    lastId = authors.isEmpty() ? null : authors.get(authors.size() - 1).getId();
+                    rows = authors;
+                } else if (fields.contains("bio")) {
+                    List<Author> authors = authorService.getPendingAuthors(after, pageSize);
+                    List<Map<String, Object>> picked = new ArrayList<>(authors.size());
+                    for (Author author : authors) {
+                        picked.add(pickFields(fields, AuthorSummary.of(author), author.getBio()));
+                        lastId = author.getId();
+                    }
+                    rows = picked;
+                } else {
+                    List<AuthorSummary> summaries = authorService.getPendingAuthorSummaries(after, pageSize);
+                    List<Map<String, Object>> picked = new ArrayList<>(summaries.size());
+                    for (AuthorSummary summary : summaries) {
+                        picked.add(pickFields(fields, summary, null));
+                        lastId = summary.getId();
+                    }
+                    rows = picked;
+                }
             
-            return ResponseEntity.ok(
-                new ApiResponse<>(true, "대기 중인 작가 목록을 성공적으로 조회했습니다.", authors)
-            );
+                ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(REVALIDATE);
+                if (rows.size() == pageSize) {
+                    builder.header(NEXT_CURSOR_HEADER, lastId.toString());
+                }
+                return builder.body(
+                    new ApiResponse<>(true, "대기 중인 작가 목록을 성공적으로 조회했습니다.", rows)
+                );
+            } catch (Exception e) {
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse<>(false, "작가 목록 조회 중 오류가 발생했습니다: " + e.getMessage(), null));
+            }
+        });
+    }
+
+    /**
+     * 작가 검색 (이름/소개, 관리자용)
+     * q 의 모든 단어가 (접두어로라도) 맞는 작가를 점수순으로 내려주며, 이름에 맞은 작가가 소개에 맞은 작가보다 앞선다.
+     * status=PENDING,APPROVED 처럼 상태로 거를 수 있다.
+     */
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('ADMIN')")
+    public CompletableFuture<ResponseEntity<ApiResponse<List<AuthorSearchHit>>>> searchAuthors(
+        @RequestParam("q") String query,
+        @RequestParam(value = "status", required = false) Set<AuthorStatus> statuses,
+        @RequestParam(value = "size", required = false) Integer size
+    ) {
+        if (query.trim().isEmpty()) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest()
+                .body(new ApiResponse<>(false, "검색어(q)를 입력해야 합니다.", null)));
+        }
+
+        if (!authorService.isSearchReady()) {
+            // 기동 직후 색인을 만드는 중
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(new ApiResponse<>(false, "검색 색인을 만드는 중입니다. 잠시 후 다시 시도해 주세요.", null)));
+        }
+
+        int limit = size == null || size <= 0 ? defaultSearchSize : Math.min(size, maxSearchSize);
+        return bulkheads.read(() -> {
+            try {
+                List<AuthorSearchHit> hits = authorService.searchAuthors(query, statuses, limit);
+                return ResponseEntity.ok(
+                    new ApiResponse<>(true, "작가 검색 결과를 성공적으로 조회했습니다.", hits)
+                );
+            } catch (Exception e) {
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse<>(false, "작가 검색 중 오류가 발생했습니다: " + e.getMessage(), null));
+            }
+        });
+    }
+
+    /**
+     * 대기 중인 작가 목록 전체를 NDJSON 으로 스트리밍 (한 줄에 한 명)
+     * DB 커서로 읽으면서 바로 내보내므로 목록 크기와 무관하게 메모리 사용량이 일정하다.
+     */
+    @GetMapping(value = "/list/stream", produces = NDJSON)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> streamAuthors() {
+        StreamingResponseBody body = out ->
+            authorService.streamPendingAuthors(author -> writeLine(out, author));
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(NDJSON))
+            .body(body);
+    }
+
+    /**
+     * 작가 신청 일괄 등록 (NDJSON, 한 줄에 한 건, 관리자용)
+     * 본문을 줄 단위로 읽어 authors.import.batch-size 건마다 한 트랜잭션으로 저장하므로
+     * 본문 크기와 무관하게 메모리 사용량이 일정하다. 형식/검증/중복 오류가 난 줄은 건너뛰고 줄 번호와 함께 알려준다.
+     */
+    @PostMapping(value = "/import", consumes = NDJSON)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<ImportReport>> importAuthors(InputStream body) {
+        long started = System.nanoTime();
+        ImportReport report = new ImportReport(maxImportErrors);
+        List<Author> chunk = new ArrayList<>(importBatchSize);
+        List<Long> chunkLines = new ArrayList<>(importBatchSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                report.received++;
+                try {
+                    chunk.add(toImportedAuthor(line));
+                    chunkLines.add(lineNumber);
+                } catch (JsonProcessingException e) {
+                    report.addError(lineNumber, "JSON 형식 오류: " + e.getOriginalMessage());
+                } catch (IllegalArgumentException e) {
+                    report.addError(lineNumber, e.getMessage());
+                }
+                if (chunk.size() == importBatchSize) {
+                    importChunk(chunk, chunkLines, report);
+                }
+            }
+            importChunk(chunk, chunkLines, report);
         } catch (Exception e) {
+            report.finish(System.nanoTime() - started);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(new ApiResponse<>(false, "작가 목록 조회 중 오류가 발생했습니다: " + e.getMessage(), null));
+                .body(new ApiResponse<>(false, "작가 일괄 등록 중 오류가 발생했습니다: " + e.getMessage(), report));
         }
+
+        report.finish(System.nanoTime() - started);
+        return ResponseEntity.ok(new ApiResponse<>(true, "작가 일괄 등록을 처리했습니다.", report));
     }
 
-    @PatchMapping("/review")
-    @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<SimpleResponse> reviewAuthor(@RequestBody ReviewRequest reviewRequest) {
+    private Author toImportedAuthor(String line) throws JsonProcessingException {
+        Author author = objectMapper.readValue(line, Author.class);
+        if (author.getUserId() == null) {
+            throw new IllegalArgumentException("userId 가 없습니다.");
+        }
+        if (author.getName() == null || author.getName().trim().isEmpty()) {
+            throw new IllegalArgumentException("name 이 없습니다.");
+        }
+        author.setId(null);
+        author.setVersion(null);
+        return author;
+    }
+
+    /**
+     * 모아 둔 한 배치를 저장하고 비운다. 배치 안에서 userId 가 겹치거나 이미 신청한 사용자는 오류로 남긴다.
+     */
+    private void importChunk(List<Author> chunk, List<Long> chunkLines, ImportReport report) {
+        List<Author> authors = new ArrayList<>(chunk.size());
+        List<Long> lines = new ArrayList<>(chunk.size());
+        Set<UUID> userIds = new HashSet<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            if (userIds.add(chunk.get(i).getUserId())) {
+                authors.add(chunk.get(i));
+                lines.add(chunkLines.get(i));
+            } else {
+                report.addError(chunkLines.get(i), "같은 요청에 userId 가 중복되었습니다.");
+            }
+        }
+        chunk.clear();
+        chunkLines.clear();
+        if (authors.isEmpty()) {
+            return;
+        }
+
         try {
-            Optional<Author> authorOpt = authorService.reviewAuthor(
-                reviewRequest.getAuthorId(), 
-                reviewRequest.getStatus()
-            );
-            
-            if (authorOpt.isPresent()) {
-                return ResponseEntity.ok(new SimpleResponse(true));
+            recordImported(authors, lines, authorService.importAuthors(authors), report);
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 같은 사용자가 신청한 경우 등: 한 건씩 다시 시도해서 문제 줄만 골라낸다.
+            for (int i = 0; i < authors.size(); i++) {
+                Author author = authors.get(i);
+                author.setId(null);
+                author.setVersion(null);
+                try {
+                    recordImported(
+                        List.of(author), List.of(lines.get(i)), authorService.importAuthors(List.of(author)), report
+                    );
+                } catch (DataIntegrityViolationException rowError) {
+                    report.addError(lines.get(i), "제약 조건 위반: " + rowError.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+    }
+
+    private static void recordImported(List<Author> authors, List<Long> lines, Set<UUID> existing, ImportReport report) {
+        for (int i = 0; i < authors.size(); i++) {
+            if (existing.contains(authors.get(i).getUserId())) {
+                report.addError(lines.get(i), "이미 작가 신청을 한 사용자입니다.");
             } else {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                report.imported++;
+            }
+        }
+    }
+
+    /**
+     * 작가 심사
+     * 이미 같은 상태면 쓰기/이벤트 없이 성공으로 응답하고, Idempotency-Key 재시도는 처음 응답을 돌려준다.
+     */
+    @PatchMapping("/review")
+    @PreAuthorize("hasRole('ADMIN')")
+    public CompletableFuture<ResponseEntity<SimpleResponse>> reviewAuthor(
+        @RequestBody ReviewRequest reviewRequest,
+        @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey
+    ) {
+        UUID reviewerId = getCurrentUserId();
+        String fingerprint = reviewRequest.getAuthorId() + ":" + reviewRequest.getStatus();
+        return bulkheads.write(() -> idempotencyStore.execute(reviewerId, "review", idempotencyKey, fingerprint, () -> {
+            try {
+                Optional<Author> authorOpt = authorService.reviewAuthor(
+                    reviewRequest.getAuthorId(),
+                    reviewRequest.getStatus()
+                );
+
+                if (authorOpt.isPresent()) {
+                    return ResponseEntity.ok(new SimpleResponse(true));
+                } else {
+                    return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(new SimpleResponse(false));
+                }
+            } catch (Exception e) {
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(new SimpleResponse(false));
             }
+        }));
+    }
+
+    /**
+     * 작가 일괄 심사 (최대 authors.review.batch.max-size 건)
+     * 하나의 트랜잭션에서 처리하고 항목별 결과를 돌려준다.
+     * 같은 작가 ID 가 두 번 이상 있으면 어느 결정을 적용할지 모호하므로 전체를 400 으로 거절한다.
+     */
+    @PatchMapping("/review/batch")
+    @PreAuthorize("hasRole('ADMIN')")
+    public CompletableFuture<ResponseEntity<ApiResponse<List<ReviewResult>>>> reviewAuthors(@RequestBody List<ReviewRequest> reviewRequests) {
+        if (reviewRequests.size() > maxReviewBatchSize) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest()
+                .body(new ApiResponse<>(false, "한 번에 최대 " + maxReviewBatchSize + "건까지 심사할 수 있습니다.", null)));
+        }
+
+        Map<UUID, Boolean> decisions = new LinkedHashMap<>();
+        for (ReviewRequest reviewRequest : reviewRequests) {
+            UUID authorId = reviewRequest.getAuthorId();
+            if (authorId == null) {
+                continue;
+            }
+            if (decisions.containsKey(authorId)) {
+                return CompletableFuture.completedFuture(ResponseEntity.badRequest()
+                    .body(new ApiResponse<>(false, "같은 작가 ID가 여러 번 포함되어 있습니다: " + authorId, null)));
+            }
+            decisions.put(authorId, reviewRequest.getStatus());
+        }
+
+        return bulkheads.write(() -> {
+            try {
+                Map<UUID, ReviewOutcome> outcomes = authorService.reviewAuthors(decisions);
+
+                List<ReviewResult> results = new ArrayList<>(reviewRequests.size());
+                for (ReviewRequest reviewRequest : reviewRequests) {
+                    UUID authorId = reviewRequest.getAuthorId();
+                    results.add(new ReviewResult(
+                        authorId,
+                        authorId != null ? outcomes.get(authorId) : ReviewOutcome.INVALID
+                    ));
+                }
+                return ResponseEntity.ok(
+                    new ApiResponse<>(true, "작가 일괄 심사를 처리했습니다.", results)
+                );
+            } catch (Exception e) {
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse<>(false, "작가 일괄 심사 중 오류가 발생했습니다: " + e.getMessage(), null));
+            }
+        });
+    }
+
+    /**
+     * 상태별 작가 신청 건수 (관리자 대시보드용, 메모리 카운터라 테이블 크기와 무관)
+     */
+    @GetMapping("/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Long>>> getStats() {
+        try {
+            Map<String, Long> stats = new LinkedHashMap<>();
+            long total = 0;
+            for (Map.Entry<AuthorStatus, Long> entry : authorService.getStatusCounts().entrySet()) {
+                stats.put(entry.getKey().getValue(), entry.getValue());
+                total += entry.getValue();
+            }
+            stats.put("TOTAL", total);
+            return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(new ApiResponse<>(true, "작가 신청 통계를 성공적으로 조회했습니다.", stats));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(new SimpleResponse(false));
+                .body(new ApiResponse<>(false, "작가 신청 통계 조회 중 오류가 발생했습니다: " + e.getMessage(), null));
         }
     }
 
     @GetMapping("/status")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<ApiResponse<Author>> getMyApplicationStatus() {
-        try {
-            UUID userId = getCurrentUserId();
-            Optional<Author> authorOpt = authorService.getAuthorByUserId(userId);
+    public CompletableFuture<ResponseEntity<ApiResponse<Author>>> getMyApplicationStatus(
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        UUID userId = getCurrentUserId();
+        return bulkheads.read(() -> {
+            try {
+                Optional<Author> authorOpt = authorService.getAuthorByUserId(userId);
             
-            if (authorOpt.isPresent()) {
-                return ResponseEntity.ok(
-                    new ApiResponse<>(true, "작가 신청 상태를 성공적으로 조회했습니다.", authorOpt.get())
-                );
-            } else {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(new ApiResponse<>(false, "작가 신청 내역을 찾을 수 없습니다.", null));
+                if (authorOpt.isPresent()) {
+                    String etag = entityETag(authorOpt.get());
+                    if (ETags.matches(ifNoneMatch, etag)) {
+                        return notModified(etag);
+                    }
+                    return ResponseEntity.ok()
+                        .eTag(etag)
+                        .cacheControl(REVALIDATE)
+                        .body(new ApiResponse<>(true, "작가 신청 상태를 성공적으로 조회했습니다.", authorOpt.get()));
+                } else {
+                    return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(new ApiResponse<>(false, "작가 신청 내역을 찾을 수 없습니다.", null));
+                }
+            } catch (Exception e) {
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse<>(false, "작가 신청 상태 조회 중 오류가 발생했습니다: " + e.getMessage(), null));
             }
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(new ApiResponse<>(false, "작가 신청 상태 조회 중 오류가 발생했습니다: " + e.getMessage(), null));
+        });
+    }
+
+    /**
+     * 작가 신청 상태 스트림 (SSE)
+     * 연결 직후 현재 상태를 한 번 보내고, 이후 심사로 상태가 바뀌면 다시 보낸다.
+     */
+    @GetMapping(value = "/status/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<SseEmitter> streamMyApplicationStatus() {
+        UUID userId = getCurrentUserId();
+        SseEmitter emitter = statusStreamRegistry.subscribe(userId);
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
         }
+
+        StatusStreamRegistry.StatusUpdate current = authorService.getAuthorByUserId(userId)
+            .map(author -> new StatusStreamRegistry.StatusUpdate(
+                author.getId(), author.getStatus().getValue(), author.getVersion()
+            ))
+            .orElseGet(StatusStreamRegistry.StatusUpdate::new);
+        statusStreamRegistry.send(userId, emitter, current);
+        return ResponseEntity.ok(emitter);
     }
 
     @GetMapping("/user")
@@ -116,26 +524,178 @@ public class AuthorController {
     }
 
     @GetMapping("/{authorId}/userId")
-    public ResponseEntity<ApiResponse<UserIdResponse>> getUserIdByAuthorId(@PathVariable UUID authorId) {
-        try {
-            Optional<Author> authorOpt = authorService.getAuthorById(authorId);
+    public CompletableFuture<ResponseEntity<ApiResponse<UserIdResponse>>> getUserIdByAuthorId(
+        @PathVariable UUID authorId,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return bulkheads.read(() -> {
+            try {
+                Optional<Author> authorOpt = authorService.getAuthorById(authorId);
             
-            if (authorOpt.isPresent()) {
-                Author author = authorOpt.get();
-                UserIdResponse response = new UserIdResponse(author.getUserId());
-                return ResponseEntity.ok(
-                    new ApiResponse<>(true, "작가의 사용자 ID를 성공적으로 조회했습니다.", response)
-                );
-            } else {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(new ApiResponse<>(false, "해당 작가를 찾을 수 없습니다.", null));
+                if (authorOpt.isPresent()) {
+                    Author author = authorOpt.get();
+                    String etag = entityETag(author);
+                    if (ETags.matches(ifNoneMatch, etag)) {
+                        return notModified(etag);
+                    }
+                    UserIdResponse response = new UserIdResponse(author.getUserId());
+                    return ResponseEntity.ok()
+                        .eTag(etag)
+                        .cacheControl(REVALIDATE)
+                        .body(new ApiResponse<>(true, "작가의 사용자 ID를 성공적으로 조회했습니다.", response));
+                } else {
+                    return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(new ApiResponse<>(false, "해당 작가를 찾을 수 없습니다.", null));
+                }
+            } catch (Exception e) {
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse<>(false, "작가 사용자 ID 조회 중 오류가 발생했습니다: " + e.getMessage(), null));
+            }
+        });
+    }
+
+    /**
+     * bulkhead 큐가 가득 차면 기다리지 않고 503 으로 바로 거절한다.
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ApiResponse<Void>> handleBulkheadFull(RejectedExecutionException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(new ApiResponse<>(false, "요청이 많아 잠시 후 다시 시도해 주세요.", null));
+    }
+
+    /**
+     * 엔티티 id + @Version 으로 만든 강한 ETag
+     */
+    private static String entityETag(Author author) {
+        return ETags.strong(author.getId() + ":" + author.getVersion());
+    }
+
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+            .eTag(etag)
+            .cacheControl(REVALIDATE)
+            .build();
+    }
+
+    /**
+     * fields 파라미터 (쉼표 구분, 순서 유지). 지정하지 않으면 null
+     */
+    private static Set<String> parseFields(String fieldsParam) {
+        if (fieldsParam == null) {
+            return null;
+        }
+        Set<String> fields = new LinkedHashSet<>();
+        for (String field : fieldsParam.split(",")) {
+            if (!field.trim().isEmpty()) {
+                fields.add(field.trim());
             }
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(new ApiResponse<>(false, "작가 사용자 ID 조회 중 오류가 발생했습니다: " + e.getMessage(), null));
+        }
+        return fields;
+    }
+
+    private static Map<String, Object> pickFields(Set<String> fields, AuthorSummary summary, String bio) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (String field : fields) {
+            switch (field) {
+                case "id": row.put(field, summary.getId()); break;
+                case "userId": row.put(field, summary.getUserId()); break;
+                case "name": row.put(field, summary.getName()); break;
+                case "status": row.put(field, summary.getStatus()); break;
+                case "portfolioUrl": row.put(field, summary.getPortfolioUrl()); break;
+                case "version": row.put(field, summary.getVersion()); break;
+                case "bio": row.put(field, bio); break;
+                default: break;
+            }
+        }
+        return row;
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return defaultPageSize;
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    private void writeLine(OutputStream out, Object value) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(value));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 
+    /**
+     * 여러 작가의 사용자 ID 일괄 조회 (authorId -> userId)
+     * POST 응답은 HTTP 캐시 대상이 아니므로 조건부 요청(If-None-Match)과 Cache-Control 은 GET 에서만 쓴다.
+     */
+    @PostMapping("/userIds")
+    public CompletableFuture<ResponseEntity<ApiResponse<Map<UUID, UUID>>>> getUserIdsByAuthorIds(
+        @RequestBody Set<UUID> authorIds
+    ) {
+        return userIdsResponse(authorIds, null, false);
+    }
+
+    /**
+     * GET 버전 (?ids=a,b,c) - 작가의 userId 는 바뀌지 않으므로 ETag / Cache-Control 로
+     * 브라우저/프록시 HTTP 캐시를 그대로 쓸 수 있다.
+     */
+    @GetMapping("/userIds")
+    public CompletableFuture<ResponseEntity<ApiResponse<Map<UUID, UUID>>>> getUserIdsByAuthorIdsQuery(
+        @RequestParam("ids") Set<UUID> authorIds,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return userIdsResponse(authorIds, ifNoneMatch, true);
+    }
+
+    private CompletableFuture<ResponseEntity<ApiResponse<Map<UUID, UUID>>>> userIdsResponse(
+        Set<UUID> authorIds,
+        String ifNoneMatch,
+        boolean cacheable
+    ) {
+        if (authorIds.size() > maxUserIdsBatchSize) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest()
+                .body(new ApiResponse<>(false, "한 번에 최대 " + maxUserIdsBatchSize + "건까지 조회할 수 있습니다.", null)));
+        }
+
+        return bulkheads.read(() -> {
+            try {
+                Map<UUID, UUID> userIds = authorService.getUserIdsByAuthorIds(authorIds);
+                ApiResponse<Map<UUID, UUID>> body =
+                    new ApiResponse<>(true, "작가의 사용자 ID를 성공적으로 조회했습니다.", userIds);
+                if (!cacheable) {
+                    return ResponseEntity.ok(body);
+                }
+
+                String etag = userIdsETag(userIds);
+                CacheControl cacheControl = CacheControl.maxAge(userIdsMaxAgeSeconds, TimeUnit.SECONDS).cachePrivate();
+                if (ETags.matches(ifNoneMatch, etag)) {
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(etag)
+                        .cacheControl(cacheControl)
+                        .build();
+                }
+                return ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(cacheControl)
+                    .body(body);
+            } catch (Exception e) {
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse<>(false, "작가 사용자 ID 조회 중 오류가 발생했습니다: " + e.getMessage(), null));
+            }
+        });
+    }
+
+    private static String userIdsETag(Map<UUID, UUID> userIds) {
+        StringBuilder value = new StringBuilder();
+        new TreeMap<>(userIds).forEach((authorId, userId) ->
+            value.append(authorId).append('=').append(userId).append(';')
+        );
+        return ETags.strong(value.toString());
+    }
+
     /**
      * Spring Security에서 현재 인증된 사용자 ID 가져오기
      */
@@ -144,6 +704,17 @@ public class AuthorController {
         return (UUID) authentication.getPrincipal();
     }
     
+    /**
+     * 같은 Idempotency-Key 로 다른 요청을 보냈는지 구분하기 위한 요청 본문 해시
+     */
+    private String fingerprint(Object body) {
+        try {
+            return DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(body));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     // DTO Classes
     public static class ReviewRequest {
         private UUID authorId;
@@ -155,6 +726,23 @@ public class AuthorController {
         public void setStatus(Boolean status) { this.status = status; }
     }
 
+    public static class ReviewResult {
+        private UUID authorId;
+        private ReviewOutcome outcome;
+
+        public ReviewResult() {}
+
+        public ReviewResult(UUID authorId, ReviewOutcome outcome) {
+            this.authorId = authorId;
+            this.outcome = outcome;
+        }
+
+        public UUID getAuthorId() { return authorId; }
+        public void setAuthorId(UUID authorId) { this.authorId = authorId; }
+        public ReviewOutcome getOutcome() { return outcome; }
+        public void setOutcome(ReviewOutcome outcome) { this.outcome = outcome; }
+    }
+
     public static class SimpleResponse {
         private boolean success;
 
@@ -187,6 +775,60 @@ public class AuthorController {
         public void setData(T data) { this.data = data; }
     }
 
+    public static class ImportReport {
+        private final int maxErrors;
+        private long received;
+        private long imported;
+        private long failed;
+        private long elapsedMs;
+        private long rowsPerSecond;
+        private boolean errorsTruncated;
+        private final List<ImportError> errors = new ArrayList<>();
+
+        public ImportReport(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        void addError(long line, String message) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(new ImportError(line, message));
+            } else {
+                errorsTruncated = true;
+            }
+        }
+
+        void finish(long elapsedNanos) {
+            elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+            rowsPerSecond = elapsedNanos > 0 ? imported * 1_000_000_000L / elapsedNanos : imported;
+        }
+
+        public long getReceived() { return received; }
+        public long getImported() { return imported; }
+        public long getFailed() { return failed; }
+        public long getElapsedMs() { return elapsedMs; }
+        public long getRowsPerSecond() { return rowsPerSecond; }
+        public boolean isErrorsTruncated() { return errorsTruncated; }
+        public List<ImportError> getErrors() { return errors; }
+    }
+
+    public static class ImportError {
+        private long line;
+        private String message;
+
+        public ImportError() {}
+
+        public ImportError(long line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+
+        public long getLine() { return line; }
+        public void setLine(long line) { this.line = line; }
+        public String getMessage() { return message; }
+        public void setMessage(String message) { this.message = message; }
+    }
+
     public static class UserIdResponse {
         private UUID userId;
 
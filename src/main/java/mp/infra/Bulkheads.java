@@ -0,0 +1,104 @@
+package mp.infra;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Component;
+
+/**
+ * AuthorController 의 블로킹 작업(DB 트랜잭션, 심사 이벤트 저장)을 실행하는 엔드포인트 그룹별 스레드 풀 (bulkhead)
+ * - read: 조회, write: 신청/심사. 한쪽이 밀려도 다른 쪽과 Tomcat 스레드는 막히지 않는다.
+ * - 큐가 가득 차면 기다리지 않고 RejectedExecutionException 을 던진다. (컨트롤러에서 503)
+ * - 작업 스레드에는 요청 스레드의 SecurityContext 를 넘긴다.
+ * - 작업마다 커넥션을 하나씩 쓰므로 read + write 스레드와 bulkhead 밖에서 쓰는 커넥션(reserved-connections)의 합이
+ *   커넥션 풀보다 크면 기동하지 않는다. (넘치는 스레드는 커넥션을 기다리며 막히기만 한다)
+ * authors.async.enabled=false 면 요청 스레드에서 바로 실행한다.
+ */
+@Component
+public class Bulkheads {
+
+    private final boolean enabled;
+    private final Bulkhead read;
+    private final Bulkhead write;
+
+    public Bulkheads(
+        MeterRegistry meterRegistry,
+        @Value("${authors.async.enabled:true}") boolean enabled,
+        @Value("${authors.async.read.threads:4}") int readThreads,
+        @Value("${authors.async.read.queue-capacity:200}") int readQueueCapacity,
+        @Value("${authors.async.write.threads:3}") int writeThreads,
+        @Value("${authors.async.write.queue-capacity:50}") int writeQueueCapacity,
+        @Value("${authors.async.reserved-connections:3}") int reservedConnections,
+        @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maxPoolSize
+    ) {
+        if (enabled && readThreads + writeThreads + reservedConnections > maxPoolSize) {
+            throw new IllegalStateException(
+                "authors.async read (" + readThreads + ") + write (" + writeThreads + ") threads + reserved-connections ("
+                    + reservedConnections + ") exceed spring.datasource.hikari.maximum-pool-size (" + maxPoolSize + ")"
+            );
+        }
+        this.enabled = enabled;
+        this.read = new Bulkhead("read", readThreads, readQueueCapacity, meterRegistry);
+        this.write = new Bulkhead("write", writeThreads, writeQueueCapacity, meterRegistry);
+    }
+
+    public <T> CompletableFuture<T> read(Supplier<T> task) {
+        return submit(read, task);
+    }
+
+    public <T> CompletableFuture<T> write(Supplier<T> task) {
+        return submit(write, task);
+    }
+
+    private <T> CompletableFuture<T> submit(Bulkhead bulkhead, Supplier<T> task) {
+        if (!enabled) {
+            return CompletableFuture.completedFuture(task.get());
+        }
+        try {
+            return CompletableFuture.supplyAsync(task, bulkhead.executor);
+        } catch (RejectedExecutionException e) {
+            bulkhead.rejected.increment();
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        read.pool.shutdown();
+        write.pool.shutdown();
+    }
+
+    private static final class Bulkhead {
+
+        final ThreadPoolExecutor pool;
+        final ExecutorService executor;
+        final Counter rejected;
+
+        Bulkhead(String name, int threads, int queueCapacity, MeterRegistry meterRegistry) {
+            this.pool = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("bulkhead-" + name + "-"),
+                new ThreadPoolExecutor.AbortPolicy()
+            );
+            this.executor = new DelegatingSecurityContextExecutorService(pool);
+            new ExecutorServiceMetrics(pool, "authors." + name, Tags.empty()).bindTo(meterRegistry);
+            this.rejected = Counter.builder("authors.bulkhead.rejected")
+                .description("Requests rejected because the bulkhead queue was full")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        }
+    }
+}
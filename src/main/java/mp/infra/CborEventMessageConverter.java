@@ -0,0 +1,42 @@
+package mp.infra;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.AbstractMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+/**
+ * contentType 이 application/cbor 인 수신 이벤트를 EventCodec 으로 읽는다.
+ * JSON 으로 온 메시지는 기존 JSON 컨버터가 처리하므로 전환 중에도 두 형식을 함께 받을 수 있다.
+ */
+@Component
+public class CborEventMessageConverter extends AbstractMessageConverter {
+
+    private final EventCodec eventCodec;
+
+    public CborEventMessageConverter(EventCodec eventCodec) {
+        super(EventCodec.CBOR);
+        this.eventCodec = eventCodec;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return AbstractEvent.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canConvertTo(Object payload, MessageHeaders headers) {
+        // 발행은 EventCodec 이 직접 인코딩한 byte[] 로 하므로 변환하지 않는다.
+        return false;
+    }
+
+    @Override
+    protected Object convertFromInternal(Message<?> message, Class<?> targetClass, Object conversionHint) {
+        if (!(message.getPayload() instanceof byte[])) {
+            return null;
+        }
+        MimeType contentType = getMimeType(message.getHeaders());
+        return eventCodec.decode((byte[]) message.getPayload(), contentType, targetClass);
+    }
+}
@@ -0,0 +1,38 @@
+package mp.infra;
+
+import java.nio.charset.StandardCharsets;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 조건부 요청(If-None-Match) 처리를 위한 ETag 헬퍼
+ */
+final class ETags {
+
+    private ETags() {}
+
+    /**
+     * 값에서 강한(strong) ETag 를 만든다.
+     */
+    static String strong(String value) {
+        return "\"" + DigestUtils.md5DigestAsHex(value.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * If-None-Match 헤더 값에 etag 가 포함되어 있는지 확인한다. (메서드와 무관하게 비교)
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isEmpty()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,251 @@
+package mp.infra;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * author-review-out 바인딩으로 나가는 이벤트의 인코딩 (바인딩의 content-type 으로 정한다, EventEncodingConfig)
+ * - application/json (기본): 기존과 같은 JSON
+ * - application/cbor: 스키마 필드 순서대로 값만 담은 CBOR 배열 (필드 이름 없음, UUID 는 16바이트)
+ *   contentType 에 스키마 subject 와 fingerprint (필드 목록에서 만든 id) 를 붙여 보낸다.
+ *   컨슈머는 자기 클래스의 fingerprint 와 같으면 그대로, 다르면 공용 레지스트리에서 찾아 읽고, 못 찾으면 실패한다.
+ */
+public class EventCodec {
+
+    public static final MimeType CBOR = new MimeType("application", "cbor");
+    static final String SCHEMA_PARAM = "schema";
+    static final String FINGERPRINT_PARAM = "fingerprint";
+
+    private final SchemaRegistry schemaRegistry;
+    private final boolean binary;
+    private final CBORMapper mapper = new CBORMapper();
+    private final Map<Class<?>, Writer> writers = new ConcurrentHashMap<>();
+    private final Map<ReaderKey, Reader> readers = new ConcurrentHashMap<>();
+
+    public EventCodec(SchemaRegistry schemaRegistry, String contentType) {
+        this.schemaRegistry = schemaRegistry;
+        this.binary = contentType != null && MimeTypeUtils.parseMimeType(contentType).equalsTypeAndSubtype(CBOR);
+    }
+
+    public Encoded encode(AbstractEvent event) {
+        if (!binary) {
+            return new Encoded(EventSerializer.toBytes(event), MimeTypeUtils.APPLICATION_JSON);
+        }
+        Writer writer = writers.computeIfAbsent(event.getClass(), this::writerFor);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(128);
+        try (JsonGenerator generator = mapper.getFactory().createGenerator(out)) {
+            generator.writeStartArray();
+            for (AnnotatedMember accessor : writer.accessors) {
+                generator.writeObject(accessor.getValue(event));
+            }
+            generator.writeEndArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("CBOR format exception", e);
+        }
+        return new Encoded(out.toByteArray(), writer.contentType);
+    }
+
+    /**
+     * contentType 의 스키마로 CBOR 페이로드를 읽는다.
+     * 보낸 쪽 스키마에만 있는 필드는 건너뛰고, 없는 필드는 기본값으로 남는다.
+     */
+    public <T> T decode(byte[] payload, MimeType contentType, Class<T> type) {
+        Reader reader = readers.computeIfAbsent(
+            new ReaderKey(type, contentType.getParameter(SCHEMA_PARAM), contentType.getParameter(FINGERPRINT_PARAM)),
+            this::readerFor
+        );
+        try (JsonParser parser = mapper.getFactory().createParser(payload)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("CBOR event is not an array: " + contentType);
+            }
+            T event = type.cast(reader.creator.call());
+            for (Field field : reader.fields) {
+                if (parser.nextToken() == JsonToken.END_ARRAY) {
+                    return event;
+                }
+                if (field == null) {
+                    parser.skipChildren();
+                } else {
+                    field.mutator.setValue(event, field.reader.readValue(parser));
+                }
+            }
+            return event;
+        } catch (IOException e) {
+            throw new UncheckedIOException("CBOR format exception", e);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Cannot decode " + contentType + " as " + type.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * 보낸 쪽 스키마의 필드 순서에 맞춰 로컬 클래스의 setter 를 배치한다. (없는 필드는 null)
+     */
+    private Reader readerFor(ReaderKey key) {
+        if (key.subject == null || key.fingerprint == null) {
+            throw new IllegalArgumentException("CBOR event without schema fingerprint");
+        }
+        // 보낸 쪽과 필드 목록이 같으면 (fingerprint 가 같으면) 로컬 스키마를 그대로 쓴다.
+        EventSchema local = writers.computeIfAbsent(key.type, this::writerFor).schema;
+        EventSchema schema = local.getFingerprint().equals(key.fingerprint)
+            ? local
+            : schemaRegistry.find(key.fingerprint).orElseThrow(() -> new IllegalArgumentException(
+                "Unknown event schema: " + key.subject + " " + key.fingerprint
+            ));
+        if (!schema.getSubject().equals(key.subject)
+            || !EventSchema.fingerprint(schema.getSubject(), schema.getFields()).equals(key.fingerprint)) {
+            throw new IllegalArgumentException(
+                "Event schema " + schema + " does not match " + key.subject + " " + key.fingerprint
+            );
+        }
+
+        Map<String, BeanPropertyDefinition> properties = new HashMap<>();
+        JavaType javaType = mapper.constructType(key.type);
+        for (BeanPropertyDefinition property : mapper.getDeserializationConfig().introspect(javaType).findProperties()) {
+            if (property.getMutator() != null) {
+                properties.put(property.getName(), property);
+            }
+        }
+
+        List<Field> fields = new ArrayList<>(schema.getFields().size());
+        for (String name : schema.getFields()) {
+            BeanPropertyDefinition property = properties.get(name);
+            if (property == null) {
+                fields.add(null);
+                continue;
+            }
+            AnnotatedMember mutator = property.getMutator();
+            mutator.fixAccess(true);
+            fields.add(new Field(mutator, mapper.readerFor(property.getPrimaryType())));
+        }
+        Callable<Object> creator = () -> key.type.getDeclaredConstructor().newInstance();
+        return new Reader(fields, creator);
+    }
+
+    /**
+     * 이벤트 클래스의 직렬화 대상 속성을 이름순으로 정렬해 스키마로 등록한다.
+     */
+    private Writer writerFor(Class<?> type) {
+        JavaType javaType = mapper.constructType(type);
+        List<BeanPropertyDefinition> properties = new ArrayList<>(
+            mapper.getSerializationConfig().introspect(javaType).findProperties()
+        );
+        properties.removeIf(property -> !property.couldSerialize());
+        properties.sort(Comparator.comparing(BeanPropertyDefinition::getName));
+
+        List<String> fields = new ArrayList<>(properties.size());
+        List<AnnotatedMember> accessors = new ArrayList<>(properties.size());
+        for (BeanPropertyDefinition property : properties) {
+            AnnotatedMember accessor = property.getAccessor();
+            accessor.fixAccess(true);
+            fields.add(property.getName());
+            accessors.add(accessor);
+        }
+
+        EventSchema schema = schemaRegistry.register(type.getSimpleName(), fields);
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put(SCHEMA_PARAM, schema.getSubject());
+        params.put(FINGERPRINT_PARAM, schema.getFingerprint());
+        return new Writer(schema, accessors, new MimeType(CBOR, params));
+    }
+
+    private static final class Writer {
+        final EventSchema schema;
+        final List<AnnotatedMember> accessors;
+        final MimeType contentType;
+
+        Writer(EventSchema schema, List<AnnotatedMember> accessors, MimeType contentType) {
+            this.schema = schema;
+            this.accessors = accessors;
+            this.contentType = contentType;
+        }
+    }
+
+    private static final class Reader {
+        final List<Field> fields;
+        final Callable<Object> creator;
+
+        Reader(List<Field> fields, Callable<Object> creator) {
+            this.fields = fields;
+            this.creator = creator;
+        }
+    }
+
+    private static final class Field {
+        final AnnotatedMember mutator;
+        final ObjectReader reader;
+
+        Field(AnnotatedMember mutator, ObjectReader reader) {
+            this.mutator = mutator;
+            this.reader = reader;
+        }
+    }
+
+    private static final class ReaderKey {
+        final Class<?> type;
+        final String subject;
+        final String fingerprint;
+
+        ReaderKey(Class<?> type, String subject, String fingerprint) {
+            this.type = type;
+            this.subject = subject;
+            this.fingerprint = fingerprint;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof ReaderKey)) {
+                return false;
+            }
+            ReaderKey other = (ReaderKey) o;
+            return type == other.type
+                && Objects.equals(subject, other.subject)
+                && Objects.equals(fingerprint, other.fingerprint);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, subject, fingerprint);
+        }
+    }
+
+    /**
+     * 인코딩된 페이로드와 그 contentType
+     */
+    public static final class Encoded {
+        private final byte[] payload;
+        private final MimeType contentType;
+
+        Encoded(byte[] payload, MimeType contentType) {
+            this.payload = payload;
+            this.contentType = contentType;
+        }
+
+        public byte[] getPayload() {
+            return payload;
+        }
+
+        public MimeType getContentType() {
+            return contentType;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package mp.infra;
+
+import java.nio.charset.StandardCharsets;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeType;
+
+/**
+ * author-review-out 으로 보내는 메시지의 헤더/키 규칙 (직접 발행과 OutboxRelay 가 함께 쓴다)
+ */
+public final class EventMessages {
+
+    // partition-key-expression 에서 참조하는 헤더 (binder 파티셔닝을 쓸 때)
+    public static final String PARTITION_KEY_HEADER = "partitionKey";
+
+    private EventMessages() {}
+
+    public static Message<byte[]> toMessage(byte[] payload, MimeType contentType, String eventType, String aggregateId) {
+        return MessageBuilder
+            .withPayload(payload)
+            .setHeader(MessageHeaders.CONTENT_TYPE, contentType)
+            .setHeader("type", eventType)
+            .setHeader(PARTITION_KEY_HEADER, aggregateId)
+            .setHeader(KafkaHeaders.MESSAGE_KEY, messageKey(aggregateId))
+            .build();
+    }
+
+    /**
+     * 같은 애그리거트(작가)의 이벤트가 항상 같은 파티션으로 가도록 애그리거트 ID 를 메시지 키로 쓴다.
+     */
+    public static byte[] messageKey(String aggregateId) {
+        return aggregateId != null ? aggregateId.getBytes(StandardCharsets.UTF_8) : null;
+    }
+}
@@ -0,0 +1,66 @@
+package mp.infra;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 바이너리 인코딩된 이벤트의 스키마 (subject + 필드 순서)
+ * 페이로드에는 필드 이름 없이 값만 이 순서대로 들어간다.
+ * 스키마 id 는 내용에서 만든 fingerprint 라서, 어느 레플리카/빌드에서 등록해도 같은 필드 목록이면 같은 id 가 된다.
+ */
+public final class EventSchema {
+
+    private final String subject;
+    private final List<String> fields;
+    private final String fingerprint;
+
+    public EventSchema(String subject, List<String> fields) {
+        this.subject = subject;
+        this.fields = Collections.unmodifiableList(new ArrayList<>(fields));
+        this.fingerprint = fingerprint(subject, fields);
+    }
+
+    /**
+     * subject 와 순서 있는 필드 목록의 SHA-256 앞 8바이트 (16진수)
+     */
+    public static String fingerprint(String subject, List<String> fields) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        digest.update(subject.getBytes(StandardCharsets.UTF_8));
+        for (String field : fields) {
+            digest.update((byte) '\n');
+            digest.update(field.getBytes(StandardCharsets.UTF_8));
+        }
+        byte[] hash = digest.digest();
+        StringBuilder hex = new StringBuilder(16);
+        for (int i = 0; i < 8; i++) {
+            hex.append(Character.forDigit((hash[i] >> 4) & 0xf, 16)).append(Character.forDigit(hash[i] & 0xf, 16));
+        }
+        return hex.toString();
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public List<String> getFields() {
+        return fields;
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    @Override
+    public String toString() {
+        return subject + " " + fingerprint + " " + fields;
+    }
+}
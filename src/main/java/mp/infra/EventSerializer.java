@@ -0,0 +1,47 @@
+package mp.infra;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * 도메인 이벤트 직렬화
+ * - 미리 구성한 ObjectWriter 하나를 공유하고 (스레드 안전)
+ * - 스레드별로 재사용하는 바이트 버퍼에 바로 쓴다.
+ *   결과 byte[] 는 outbox 행과 Kafka 메시지로 버퍼보다 오래 살아남으므로 마지막에 정확한 크기로 한 번 복사한다.
+ *   (버퍼 확장/재할당은 재사용으로 없애고, 남는 복사는 이 한 번뿐이다)
+ */
+public final class EventSerializer {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final JsonFactory FACTORY = MAPPER.getFactory();
+    private static final ObjectWriter WRITER = MAPPER.writer();
+    private static final ThreadLocal<ByteArrayBuilder> BUFFER =
+        ThreadLocal.withInitial(() -> new ByteArrayBuilder(512));
+
+    private EventSerializer() {}
+
+    public static byte[] toBytes(AbstractEvent event) {
+        ByteArrayBuilder buffer = BUFFER.get();
+        buffer.reset();
+        try (JsonGenerator generator = FACTORY.createGenerator(buffer)) {
+            WRITER.writeValue(generator, event);
+        } catch (IOException e) {
+            throw new UncheckedIOException("JSON format exception", e);
+        }
+        return buffer.toByteArray();
+    }
+
+    public static String toJson(AbstractEvent event) {
+        // byte[] 를 거쳐 다시 디코딩하지 않고 문자열로 바로 쓴다.
+        try {
+            return WRITER.writeValueAsString(event);
+        } catch (IOException e) {
+            throw new UncheckedIOException("JSON format exception", e);
+        }
+    }
+}
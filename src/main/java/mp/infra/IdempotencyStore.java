@@ -0,0 +1,127 @@
+package mp.infra;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * Idempotency-Key 로 들어온 요청의 응답을 잠시 보관했다가 같은 키의 재시도에 그대로 돌려준다.
+ * - 키는 (사용자, 작업, Idempotency-Key) 단위이며, 크기/TTL 로 제한한다.
+ * - 처리 중인 키로 다시 들어오면 기다리지 않고 409 + Retry-After 로 돌려보낸다. (중복 실행 없음)
+ *   기다리게 하면 중복 요청이 쓰기 bulkhead 스레드를 붙잡아 다른 쓰기까지 밀린다.
+ * - 같은 키에 다른 요청 본문이 오면 422, 5xx 응답이나 예외는 보관하지 않아 다시 시도할 수 있다.
+ */
+@Component
+public class IdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+    static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final Cache<String, Entry> entries;
+    private final String retryAfterSeconds;
+    private final Counter replayed;
+
+    public IdempotencyStore(
+        MeterRegistry meterRegistry,
+        @Value("${authors.idempotency.max-keys:100000}") long maxKeys,
+        @Value("${authors.idempotency.ttl-seconds:3600}") long ttlSeconds,
+        @Value("${authors.idempotency.retry-after-seconds:1}") long retryAfterSeconds
+    ) {
+        this.entries = Caffeine.newBuilder()
+            .maximumSize(maxKeys)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .recordStats()
+            .build();
+        this.retryAfterSeconds = String.valueOf(retryAfterSeconds);
+        this.replayed = Counter.builder("authors.idempotency.replayed")
+            .description("Responses replayed for a repeated Idempotency-Key")
+            .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, "idempotencyKeys");
+    }
+
+    /**
+     * key 가 없으면 그냥 실행하고, 있으면 처음 한 번만 실행해 응답을 보관한다.
+     * fingerprint 는 요청 본문을 나타내는 값 (같은 키로 다른 요청을 보냈는지 확인용)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ResponseEntity<T> execute(
+        UUID principal,
+        String operation,
+        String key,
+        String fingerprint,
+        Supplier<ResponseEntity<T>> action
+    ) {
+        if (key == null) {
+            return action.get();
+        }
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        String cacheKey = principal + ":" + operation + ":" + key;
+        Entry created = new Entry(fingerprint);
+        Entry existing = entries.asMap().putIfAbsent(cacheKey, created);
+        if (existing != null) {
+            if (!existing.fingerprint.equals(fingerprint)) {
+                return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).build();
+            }
+            return replay(existing);
+        }
+
+        try {
+            ResponseEntity<T> response = action.get();
+            if (response.getStatusCode().is5xxServerError()) {
+                entries.asMap().remove(cacheKey, created);
+            }
+            created.response.complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            entries.asMap().remove(cacheKey, created);
+            created.response.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ResponseEntity<T> replay(Entry entry) {
+        if (!entry.response.isDone()) {
+            // 먼저 온 요청이 아직 처리 중
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds)
+                .build();
+        }
+        ResponseEntity<?> original;
+        try {
+            original = entry.response.join();
+        } catch (CompletionException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+        replayed.increment();
+        return (ResponseEntity<T>) ResponseEntity.status(original.getStatusCode())
+            .headers(original.getHeaders())
+            .header(REPLAYED_HEADER, "true")
+            .body(original.getBody());
+    }
+
+    private static final class Entry {
+        final String fingerprint;
+        final CompletableFuture<ResponseEntity<?>> response = new CompletableFuture<>();
+
+        Entry(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+    }
+}
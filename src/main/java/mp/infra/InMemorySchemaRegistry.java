@@ -0,0 +1,28 @@
+package mp.infra;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로세스 내부 스키마 저장소 (authors.events.schema-registry=in-memory, 단일 인스턴스/테스트용)
+ * 다른 프로세스와 공유되지 않으므로 이 프로세스가 등록한 스키마(자기 클래스의 필드 목록)만 찾을 수 있다.
+ * 여러 레플리카나 필드 목록이 다른 빌드가 함께 cbor 로 주고받는다면 jdbc 를 써야 한다.
+ */
+public class InMemorySchemaRegistry implements SchemaRegistry {
+
+    private final Map<String, EventSchema> schemas = new ConcurrentHashMap<>();
+
+    @Override
+    public EventSchema register(String subject, List<String> fields) {
+        EventSchema schema = new EventSchema(subject, fields);
+        EventSchema existing = schemas.putIfAbsent(schema.getFingerprint(), schema);
+        return existing != null ? existing : schema;
+    }
+
+    @Override
+    public Optional<EventSchema> find(String fingerprint) {
+        return Optional.ofNullable(schemas.get(fingerprint));
+    }
+}
@@ -0,0 +1,81 @@
+package mp.infra;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * event_schema 테이블에 두는 스키마 저장소 (기본)
+ * - 같은 DB 를 쓰는 레플리카/빌드가 모두 공유하므로, 다른 필드 목록으로 발행한 이벤트도 fingerprint 로 찾아 읽는다.
+ * - 스키마는 바뀌지 않으므로 한 번 읽거나 등록한 것은 프로세스 안에 캐시한다.
+ * - 등록은 발행 트랜잭션(outbox 기록) 안에서 일어날 수 있어 별도 트랜잭션(REQUIRES_NEW)으로 primary 에 쓴다.
+ */
+public class JdbcSchemaRegistry implements SchemaRegistry {
+
+    private static final String SEPARATOR = "\n";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate newTransaction;
+    private final Map<String, EventSchema> cache = new ConcurrentHashMap<>();
+
+    public JdbcSchemaRegistry(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public EventSchema register(String subject, List<String> fields) {
+        EventSchema schema = new EventSchema(subject, fields);
+        EventSchema cached = cache.get(schema.getFingerprint());
+        if (cached != null) {
+            return cached;
+        }
+        EventSchema stored = newTransaction.execute(status -> {
+            try {
+                jdbcTemplate.update(
+                    "insert into event_schema (fingerprint, subject, fields, created_at) values (?, ?, ?, ?)",
+                    schema.getFingerprint(), subject, String.join(SEPARATOR, fields), System.currentTimeMillis()
+                );
+                return schema;
+            } catch (DuplicateKeyException e) {
+                return load(schema.getFingerprint()).orElseThrow(() -> e);
+            }
+        });
+        if (!stored.getSubject().equals(subject) || !stored.getFields().equals(schema.getFields())) {
+            throw new IllegalStateException("Schema fingerprint collision: " + stored + " vs " + schema);
+        }
+        cache.put(stored.getFingerprint(), stored);
+        return stored;
+    }
+
+    @Override
+    public Optional<EventSchema> find(String fingerprint) {
+        EventSchema cached = cache.get(fingerprint);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<EventSchema> loaded = newTransaction.execute(status -> load(fingerprint));
+        loaded.ifPresent(schema -> cache.put(fingerprint, schema));
+        return loaded;
+    }
+
+    private Optional<EventSchema> load(String fingerprint) {
+        List<EventSchema> rows = jdbcTemplate.query(
+            "select subject, fields from event_schema where fingerprint = ?",
+            (rs, rowNum) -> new EventSchema(
+                rs.getString("subject"),
+                Arrays.asList(rs.getString("fields").split(SEPARATOR, -1))
+            ),
+            fingerprint
+        );
+        return rows.stream().findFirst();
+    }
+}
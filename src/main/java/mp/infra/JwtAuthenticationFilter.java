@@ -1,5 +1,7 @@
 package mp.infra;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -12,15 +14,26 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.Collections;
-import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final Timer verifiedTimer;
+    private final Timer rejectedTimer;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, MeterRegistry meterRegistry) {
         this.jwtUtil = jwtUtil;
+        this.verifiedTimer = verifyTimer(meterRegistry, "verified");
+        this.rejectedTimer = verifyTimer(meterRegistry, "rejected");
+    }
+
+    private static Timer verifyTimer(MeterRegistry registry, String outcome) {
+        return Timer.builder("jwt.verify")
+            .description("Bearer token verification (including cache lookup)")
+            .tag("outcome", outcome)
+            .register(registry);
     }
 
     @Override
@@ -32,14 +45,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
             
-            if (jwtUtil.validateToken(token)) {
-                UUID userId = jwtUtil.extractUserId(token);
-                String role = jwtUtil.extractRole(token);
-                
+            long start = System.nanoTime();
+            JwtPrincipal principal = jwtUtil.authenticate(token);
+            (principal != null ? verifiedTimer : rejectedTimer)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            
+            if (principal != null) {
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                    userId,
+                    principal.getUserId(),
                     null,
-                    Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role))
+                    Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + principal.getRole()))
                 );
                 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
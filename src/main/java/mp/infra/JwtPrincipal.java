@@ -0,0 +1,30 @@
+package mp.infra;
+
+import java.util.UUID;
+
+/**
+ * 검증이 끝난 JWT에서 꺼낸 인증 정보 (불변)
+ */
+public final class JwtPrincipal {
+
+    private final UUID userId;
+    private final String role;
+    private final Boolean subscribed;
+    private final long expiresAt; // epoch millis
+
+    public JwtPrincipal(UUID userId, String role, Boolean subscribed, long expiresAt) {
+        this.userId = userId;
+        this.role = role;
+        this.subscribed = subscribed;
+        this.expiresAt = expiresAt;
+    }
+
+    public UUID getUserId() { return userId; }
+    public String getRole() { return role; }
+    public Boolean getSubscribed() { return subscribed; }
+    public long getExpiresAt() { return expiresAt; }
+
+    public boolean isExpired(long now) {
+        return expiresAt <= now;
+    }
+}
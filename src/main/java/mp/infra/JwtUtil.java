@@ -1,9 +1,15 @@
 package mp.infra;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
@@ -12,23 +18,62 @@ import java.util.Date;
 import java.util.UUID;
 
 @Component
-public class JwtUtil {
+public class JwtUtil implements MeterBinder {
     
     private final SecretKey secretKey;
+    private final JwtParser parser; // 스레드 안전, 한 번만 생성
+    private final VerifiedTokenCache tokenCache;
     
     @Value("${jwt.expiration:86400000}")
     private long expirationTime; // 기본값: 24시간 (밀리초)
     
-    public JwtUtil(@Value("${jwt.secret}") String jwtSecret) {
+    public JwtUtil(
+        @Value("${jwt.secret}") String jwtSecret,
+        @Value("${jwt.cache.max-size:10000}") int cacheMaxSize
+    ) {
         this.secretKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
+        this.tokenCache = new VerifiedTokenCache(cacheMaxSize);
     }
     
     public Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    /**
+     * 토큰을 한 번만 검증/파싱해서 인증 정보를 돌려준다.
+     * 이미 검증된 토큰은 캐시에서 바로 꺼내며, 유효하지 않으면 null
+     */
+    public JwtPrincipal authenticate(String token) {
+        long now = System.currentTimeMillis();
+        JwtPrincipal cached = tokenCache.get(token, now);
+        if (cached != null) {
+            return cached;
+        }
+
+        JwtPrincipal principal;
+        try {
+            principal = toPrincipal(extractAllClaims(token));
+        } catch (Exception e) {
+            return null;
+        }
+        if (principal.isExpired(now)) {
+            return null;
+        }
+        tokenCache.put(token, principal, now);
+        return principal;
+    }
+
+    private JwtPrincipal toPrincipal(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return new JwtPrincipal(
+            UUID.fromString(claims.get("sub", String.class)),
+            claims.get("role", String.class),
+            claims.get("is_subscribed", Boolean.class),
+            expiration.getTime()
+        );
     }
     
     public UUID extractUserId(String token) {
@@ -53,10 +98,27 @@ public class JwtUtil {
     }
     
     public Boolean validateToken(String token) {
-        try {
-            return !isTokenExpired(token);
-        } catch (Exception e) {
-            return false;
-        }
+        return authenticate(token) != null;
+    }
+
+    public long getCacheHitCount() {
+        return tokenCache.hitCount();
+    }
+
+    public long getCacheMissCount() {
+        return tokenCache.missCount();
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        FunctionCounter.builder("jwt.cache.hits", tokenCache, VerifiedTokenCache::hitCount)
+                .description("Verified token cache hits")
+                .register(registry);
+        FunctionCounter.builder("jwt.cache.misses", tokenCache, VerifiedTokenCache::missCount)
+                .description("Verified token cache misses")
+                .register(registry);
+        Gauge.builder("jwt.cache.size", tokenCache, VerifiedTokenCache::size)
+                .description("Number of cached verified tokens")
+                .register(registry);
     }
-} 
\ No newline at end of file
+}
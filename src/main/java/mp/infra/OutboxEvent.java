@@ -0,0 +1,33 @@
+package mp.infra;
+
+import javax.persistence.*;
+import lombok.Data;
+
+/**
+ * 아직 Kafka로 발행되지 않은 도메인 이벤트 (Transactional Outbox)
+ */
+@Entity
+@Table(name = "Outbox_table")
+@Data
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "aggregate_id", length = 64)
+    private String aggregateId;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Lob
+    @Column(name = "payload", nullable = false)
+    private byte[] payload;
+
+    @Column(name = "content_type", nullable = false)
+    private String contentType;
+
+    @Column(name = "created_at", nullable = false)
+    private Long createdAt;
+}
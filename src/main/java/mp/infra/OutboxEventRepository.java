@@ -0,0 +1,25 @@
+package mp.infra;
+
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.transaction.annotation.Transactional;
+
+@RepositoryRestResource(exported = false)
+public interface OutboxEventRepository
+    extends PagingAndSortingRepository<OutboxEvent, Long> {
+
+    // replica 지연으로 이미 삭제한 이벤트를 다시 읽지 않도록 primary 에서 조회
+    @Transactional
+    List<OutboxEvent> findAllByOrderByIdAsc(Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("delete from OutboxEvent e where e.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
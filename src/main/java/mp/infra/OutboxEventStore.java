@@ -0,0 +1,82 @@
+package mp.infra;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 도메인 이벤트를 현재 트랜잭션 안에서 outbox 테이블에 기록한다.
+ * JPA flush 도중(@PostUpdate)에도 호출되므로 EntityManager 대신 같은 커넥션의 JDBC를 사용한다.
+ */
+@Component
+public class OutboxEventStore {
+
+    private static final String INSERT_SQL =
+        "insert into outbox_table (aggregate_id, event_type, payload, content_type, created_at) values (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EventCodec eventCodec;
+    private final int batchSize;
+    private final ThreadLocal<List<AbstractEvent>> pending = new ThreadLocal<>();
+
+    public OutboxEventStore(
+        JdbcTemplate jdbcTemplate,
+        EventCodec eventCodec,
+        @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventCodec = eventCodec;
+        this.batchSize = batchSize;
+    }
+
+    public void append(AbstractEvent event) {
+        List<AbstractEvent> buffer = pending.get();
+        if (buffer != null) {
+            buffer.add(event);
+            return;
+        }
+        EventCodec.Encoded encoded = eventCodec.encode(event);
+        jdbcTemplate.update(
+            INSERT_SQL,
+            event.getAggregateId(),
+            event.getEventType(),
+            encoded.getPayload(),
+            encoded.getContentType().toString(),
+            event.getTimestamp()
+        );
+    }
+
+    /**
+     * work 실행 중에 append 된 이벤트를 모았다가 JDBC batch insert 로 한 번에 기록한다.
+     * work 는 반드시 같은 트랜잭션 안에서 flush 까지 끝내야 한다.
+     */
+    public <T> T appendBatched(Supplier<T> work) {
+        if (pending.get() != null) {
+            return work.get();
+        }
+
+        List<AbstractEvent> buffer = new ArrayList<>();
+        pending.set(buffer);
+        T result;
+        try {
+            result = work.get();
+        } finally {
+            pending.remove();
+        }
+
+        if (!buffer.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, buffer, batchSize, (ps, event) -> {
+                EventCodec.Encoded encoded = eventCodec.encode(event);
+                ps.setString(1, event.getAggregateId());
+                ps.setString(2, event.getEventType());
+                ps.setBytes(3, encoded.getPayload());
+                ps.setString(4, encoded.getContentType().toString());
+                ps.setLong(5, event.getTimestamp());
+            });
+        }
+        return result;
+    }
+}
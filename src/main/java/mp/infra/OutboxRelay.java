@@ -0,0 +1,123 @@
+package mp.infra;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import mp.config.kafka.DeferredBindings;
+import mp.config.kafka.KafkaProcessor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.messaging.Message;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * outbox 테이블을 주기적으로 읽어 author.review.v1 으로 배치 발행한다.
+ * 발행에 성공한 행만 삭제하므로 최소 한 번(at-least-once) 전달이 보장된다.
+ */
+@Component
+@Lazy(false) // fast-start 의 지연 초기화와 무관하게 기동 직후부터 폴링
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaProcessor kafkaProcessor;
+    private final DeferredBindings deferredBindings;
+    private final int batchSize;
+
+    private final MeterRegistry meterRegistry;
+    private final Counter publishedCounter;
+    private final Counter failureCounter;
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public OutboxRelay(
+        OutboxEventRepository outboxEventRepository,
+        KafkaProcessor kafkaProcessor,
+        DeferredBindings deferredBindings,
+        MeterRegistry meterRegistry,
+        @Value("${outbox.relay.batch-size:100}") int batchSize
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.kafkaProcessor = kafkaProcessor;
+        this.deferredBindings = deferredBindings;
+        this.batchSize = batchSize;
+        this.meterRegistry = meterRegistry;
+        this.publishedCounter = Counter.builder("outbox.relay.published")
+            .description("Outbox events published to Kafka")
+            .register(meterRegistry);
+        this.failureCounter = Counter.builder("outbox.relay.failures")
+            .description("Outbox events that failed to publish")
+            .register(meterRegistry);
+        Gauge.builder("outbox.relay.lag", lagMillis, AtomicLong::get)
+            .description("Age of the oldest unpublished outbox event")
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms:500}")
+    public void relay() {
+        // 바인딩이 아직 시작되지 않았다면 이벤트는 outbox 에 그대로 둔다.
+        if (!deferredBindings.isReady()) {
+            return;
+        }
+        // 배치가 가득 찼다면 밀린 이벤트가 더 있으므로 바로 이어서 처리
+        int sent;
+        do {
+            sent = relayBatch();
+        } while (sent == batchSize);
+    }
+
+    /**
+     * 한 배치를 발행하고 성공적으로 발행된 건수를 돌려준다.
+     */
+    int relayBatch() {
+        List<OutboxEvent> batch = outboxEventRepository.findAllByOrderByIdAsc(
+            PageRequest.of(0, batchSize)
+        );
+        if (batch.isEmpty()) {
+            lagMillis.set(0);
+            return 0;
+        }
+        lagMillis.set(System.currentTimeMillis() - batch.get(0).getCreatedAt());
+
+        List<Long> sentIds = new ArrayList<>(batch.size());
+        for (OutboxEvent event : batch) {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            try {
+                kafkaProcessor.authorReviewOut().send(toMessage(event));
+                PublishMetrics.record(meterRegistry, sample, "relay", event.getEventType(), true);
+                sentIds.add(event.getId());
+            } catch (Exception e) {
+                PublishMetrics.record(meterRegistry, sample, "relay", event.getEventType(), false);
+                // 순서를 지키기 위해 실패한 이벤트 이후는 다음 주기에 다시 시도
+                failureCounter.increment();
+                log.warn("Failed to relay outbox event {}: {}", event.getId(), e.getMessage());
+                break;
+            }
+        }
+
+        if (!sentIds.isEmpty()) {
+            outboxEventRepository.deleteByIdIn(sentIds);
+            publishedCounter.increment(sentIds.size());
+        }
+        return sentIds.size();
+    }
+
+    static Message<byte[]> toMessage(OutboxEvent event) {
+        return EventMessages.toMessage(
+            event.getPayload(),
+            MimeTypeUtils.parseMimeType(event.getContentType()),
+            event.getEventType(),
+            event.getAggregateId()
+        );
+    }
+}
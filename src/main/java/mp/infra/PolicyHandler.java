@@ -0,0 +1,72 @@
+package mp.infra;
+
+import mp.config.kafka.KafkaProcessor;
+import mp.domain.AuditCompleted;
+import mp.domain.AuthorCache;
+import mp.domain.AuthorSearchIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.stream.annotation.StreamListener;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Service;
+
+//<<< Clean Arch / Inbound Adaptor
+@Service
+@Lazy(false) // @StreamListener 는 빈이 만들어질 때 등록되므로 지연 초기화 제외
+public class PolicyHandler {
+
+    @Autowired
+    AuthorCache authorCache;
+
+    @Autowired
+    StatusStreamRegistry statusStreamRegistry;
+
+    @Autowired
+    AuthorSearchIndex searchIndex;
+
+    /**
+     * 다른 레플리카에서 심사된 작가를 로컬 캐시에서 제거
+     */
+    @StreamListener(
+        value = KafkaProcessor.AUTHOR_REVIEW_IN,
+        condition = "headers['type']=='AuditCompleted'"
+    )
+    public void wheneverAuditCompleted_EvictAuthorCache(
+        @Payload AuditCompleted auditCompleted
+    ) {
+        authorCache.evict(auditCompleted.getId(), auditCompleted.getUserId());
+    }
+
+    /**
+     * 다른 레플리카에서 심사된 작가를 검색 색인에 반영 (상태 필터가 옛 상태로 거르지 않도록)
+     */
+    @StreamListener(
+        value = KafkaProcessor.AUTHOR_REVIEW_IN,
+        condition = "headers['type']=='AuditCompleted'"
+    )
+    public void wheneverAuditCompleted_ReindexAuthor(
+        @Payload AuditCompleted auditCompleted
+    ) {
+        searchIndex.reindex(auditCompleted.getId());
+    }
+
+    /**
+     * 다른 레플리카에서 심사된 결과를 해당 사용자의 상태 스트림(SSE) 구독자에게 push
+     * (이 레플리카의 심사는 AuthorService 가 커밋 직후 보내므로 같은 버전은 레지스트리에서 걸러진다)
+     */
+    @StreamListener(
+        value = KafkaProcessor.AUTHOR_REVIEW_IN,
+        condition = "headers['type']=='AuditCompleted'"
+    )
+    public void wheneverAuditCompleted_PushApplicationStatus(
+        @Payload AuditCompleted auditCompleted
+    ) {
+        statusStreamRegistry.publish(
+            auditCompleted.getUserId(),
+            new StatusStreamRegistry.StatusUpdate(
+                auditCompleted.getId(), auditCompleted.getStatus(), auditCompleted.getVersion()
+            )
+        );
+    }
+}
+//>>> Clean Arch / Inbound Adaptor
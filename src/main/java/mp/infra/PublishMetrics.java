@@ -0,0 +1,26 @@
+package mp.infra;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 이벤트 발행 지연/실패 기록 (직접 발행과 outbox 릴레이가 같은 타이머를 쓴다)
+ * - source: direct | relay, outcome: success | failure
+ */
+final class PublishMetrics {
+
+    static final String TIMER = "authors.event.publish";
+
+    private PublishMetrics() {}
+
+    static void record(MeterRegistry registry, Timer.Sample sample, String source, String eventType, boolean success) {
+        sample.stop(
+            Timer.builder(TIMER)
+                .description("Latency of sending an event to author.review.v1")
+                .tag("source", source)
+                .tag("event", eventType != null ? eventType : "unknown")
+                .tag("outcome", success ? "success" : "failure")
+                .register(registry)
+        );
+    }
+}
@@ -0,0 +1,60 @@
+package mp.infra;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.validation.Valid;
+import javax.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 사용자별 요청 제한 설정 (authors.rate-limit)
+ * rules 는 위에서부터 처음 맞는 규칙 하나만 적용한다.
+ * permits-per-second 가 0 이하이면 기동 시 바인딩 오류로 실패한다.
+ */
+@Component
+@Validated
+@ConfigurationProperties(prefix = "authors.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    // 규칙마다 유지할 최대 사용자 버킷 수 (넘으면 새 사용자는 규칙 공용 버킷을 함께 쓴다)
+    private int maxBucketsPerRule = 100000;
+    // 가득 찬(유휴) 버킷을 정리하는 주기
+    private long evictionIntervalMs = 60000;
+    @Valid
+    private List<Rule> rules = new ArrayList<>();
+
+    public static class Rule {
+        private String name;
+        private String method;
+        private String path;
+        private String role; // 비어 있으면 모든 역할
+        @Positive
+        private double permitsPerSecond;
+        private int burst = 1;
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+        public String getMethod() { return method; }
+        public void setMethod(String method) { this.method = method; }
+        public String getPath() { return path; }
+        public void setPath(String path) { this.path = path; }
+        public String getRole() { return role; }
+        public void setRole(String role) { this.role = role; }
+        public double getPermitsPerSecond() { return permitsPerSecond; }
+        public void setPermitsPerSecond(double permitsPerSecond) { this.permitsPerSecond = permitsPerSecond; }
+        public int getBurst() { return burst; }
+        public void setBurst(int burst) { this.burst = burst; }
+    }
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+    public int getMaxBucketsPerRule() { return maxBucketsPerRule; }
+    public void setMaxBucketsPerRule(int maxBucketsPerRule) { this.maxBucketsPerRule = maxBucketsPerRule; }
+    public long getEvictionIntervalMs() { return evictionIntervalMs; }
+    public void setEvictionIntervalMs(long evictionIntervalMs) { this.evictionIntervalMs = evictionIntervalMs; }
+    public List<Rule> getRules() { return rules; }
+    public void setRules(List<Rule> rules) { this.rules = rules; }
+}
@@ -0,0 +1,148 @@
+package mp.infra;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+/**
+ * 사용자별 토큰 버킷 (GCRA)
+ * - 버킷은 "다음 요청이 허용되는 이론적 시각(TAT)" 하나만 AtomicLong 으로 들고, CAS 로 갱신한다. (락 없음)
+ * - TAT 가 현재 시각보다 과거인 버킷은 가득 찬 상태와 같으므로 지워도 상태가 사라지지 않는다.
+ *   주기적으로 이런 유휴 버킷을 정리하고, 규칙별 버킷 수가 상한에 닿으면 새 사용자는 공용 버킷을 함께 쓴다.
+ */
+@Component
+public class RateLimiter {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final boolean enabled;
+    private final int maxBucketsPerRule;
+    private final List<CompiledRule> rules;
+
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.maxBucketsPerRule = properties.getMaxBucketsPerRule();
+        List<CompiledRule> compiled = new ArrayList<>();
+        for (RateLimitProperties.Rule rule : properties.getRules()) {
+            compiled.add(new CompiledRule(rule, meterRegistry));
+        }
+        this.rules = Collections.unmodifiableList(compiled);
+    }
+
+    /**
+     * 요청에 맞는 첫 규칙. 없으면 null (제한 없음)
+     */
+    public CompiledRule match(String method, String path, Collection<? extends GrantedAuthority> authorities) {
+        for (CompiledRule rule : rules) {
+            if (rule.matches(method, path) && rule.appliesTo(authorities)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    public boolean isEnabled() {
+        return enabled && !rules.isEmpty();
+    }
+
+    /**
+     * 허용되면 0, 거절되면 다시 시도할 수 있을 때까지 남은 나노초
+     */
+    public long acquire(CompiledRule rule, UUID principal, long nowNanos) {
+        AtomicLong bucket = rule.buckets.get(principal);
+        if (bucket == null) {
+            if (rule.buckets.size() >= maxBucketsPerRule) {
+                bucket = rule.overflow;
+            } else {
+                bucket = rule.buckets.computeIfAbsent(principal, p -> new AtomicLong(nowNanos));
+            }
+        }
+        return rule.tryAcquire(bucket, nowNanos);
+    }
+
+    @Scheduled(fixedDelayString = "${authors.rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        for (CompiledRule rule : rules) {
+            rule.buckets.values().removeIf(tat -> tat.get() <= now);
+        }
+    }
+
+    public static final class CompiledRule {
+
+        private final String name;
+        private final String method;
+        private final String path;
+        private final String authority;
+        private final long emissionIntervalNanos;
+        private final long burstNanos;
+        private final ConcurrentHashMap<UUID, AtomicLong> buckets = new ConcurrentHashMap<>();
+        private final AtomicLong overflow = new AtomicLong(System.nanoTime());
+        private final Counter rejected;
+
+        CompiledRule(RateLimitProperties.Rule rule, MeterRegistry meterRegistry) {
+            this.name = rule.getName();
+            this.method = rule.getMethod();
+            this.path = rule.getPath();
+            this.authority = rule.getRole() == null || rule.getRole().isEmpty() ? null : "ROLE_" + rule.getRole();
+            this.emissionIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rule.getPermitsPerSecond());
+            this.burstNanos = emissionIntervalNanos * Math.max(1, rule.getBurst());
+            this.rejected = Counter.builder("authors.rate.limit.rejected")
+                .description("Requests rejected by the per-user rate limiter")
+                .tag("rule", name)
+                .register(meterRegistry);
+            Gauge.builder("authors.rate.limit.buckets", buckets, ConcurrentHashMap::size)
+                .description("Per-user rate limit buckets currently tracked")
+                .tag("rule", name)
+                .register(meterRegistry);
+        }
+
+        boolean matches(String requestMethod, String requestPath) {
+            return (method == null || method.equalsIgnoreCase(requestMethod))
+                && PATH_MATCHER.match(path, requestPath);
+        }
+
+        boolean appliesTo(Collection<? extends GrantedAuthority> authorities) {
+            if (authority == null) {
+                return true;
+            }
+            for (GrantedAuthority granted : authorities) {
+                if (authority.equals(granted.getAuthority())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        long tryAcquire(AtomicLong bucket, long now) {
+            while (true) {
+                long tat = bucket.get();
+                long next = Math.max(tat, now) + emissionIntervalNanos;
+                long wait = next - now - burstNanos;
+                if (wait > 0) {
+                    rejected.increment();
+                    return wait;
+                }
+                if (bucket.compareAndSet(tat, next)) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
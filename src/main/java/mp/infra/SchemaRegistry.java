@@ -0,0 +1,19 @@
+package mp.infra;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 이벤트 스키마 저장소 (fingerprint -> 스키마)
+ * 기본은 같은 DB 를 쓰는 레플리카가 공유하는 JdbcSchemaRegistry, authors.events.schema-registry=in-memory 면
+ * 프로세스 내부 구현(InMemorySchemaRegistry)이다. 다른 저장소를 쓰려면 이 인터페이스의 빈을 등록한다.
+ */
+public interface SchemaRegistry {
+
+    /**
+     * 스키마를 등록하고 돌려준다. 같은 subject/필드 목록은 몇 번 등록해도 같은 fingerprint 의 스키마다.
+     */
+    EventSchema register(String subject, List<String> fields);
+
+    Optional<EventSchema> find(String fingerprint);
+}
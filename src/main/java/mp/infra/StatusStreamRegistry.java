@@ -0,0 +1,332 @@
+package mp.infra;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 작가 신청 상태 SSE 구독자 레지스트리 (userId 별)
+ * - 전체/사용자별 연결 수 제한
+ * - push 와 heartbeat 는 이 레지스트리 전용 스레드에서 내보내 호출자(Kafka 리스너)와 @Scheduled 풀을 막지 않는다.
+ *   연결마다 순서대로 보내되, 느린 연결 하나가 다른 연결의 전송을 막지 않는다.
+ * - 한 번의 전송이 send-timeout 을 넘거나, 밀린 전송이 max-pending 을 넘거나, 전송이 실패한 연결은
+ *   바로 레지스트리에서 빼고, 그 연결을 보내던 스레드가 풀려난 뒤 completeWithError 로 닫는다.
+ */
+@Component
+public class StatusStreamRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(StatusStreamRegistry.class);
+
+    private static final String STATUS_EVENT = "status";
+
+    private final Map<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    // 구독 중인 사용자별로 마지막으로 보낸 작가 버전 (로컬 커밋 후 push 와 Kafka 수신 push 의 중복 제거)
+    private final Map<UUID, Long> publishedVersions = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final ExecutorService senders;
+    private final ScheduledExecutorService timer =
+        Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("status-stream-timer-"));
+    private final Counter failedCounter;
+
+    private final int maxConnections;
+    private final int maxConnectionsPerUser;
+    private final long timeoutMillis;
+    private final long sendTimeoutMillis;
+    private final int maxPending;
+
+    public StatusStreamRegistry(
+        MeterRegistry meterRegistry,
+        @Value("${authors.status-stream.max-connections:10000}") int maxConnections,
+        @Value("${authors.status-stream.max-connections-per-user:5}") int maxConnectionsPerUser,
+        @Value("${authors.status-stream.timeout-ms:1800000}") long timeoutMillis,
+        @Value("${authors.status-stream.heartbeat-ms:15000}") long heartbeatMillis,
+        @Value("${authors.status-stream.sender-threads:4}") int senderThreads,
+        @Value("${authors.status-stream.send-timeout-ms:5000}") long sendTimeoutMillis,
+        @Value("${authors.status-stream.max-pending:16}") int maxPending
+    ) {
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        this.timeoutMillis = timeoutMillis;
+        this.sendTimeoutMillis = sendTimeoutMillis;
+        this.maxPending = maxPending;
+        this.senders = Executors.newFixedThreadPool(senderThreads, new CustomizableThreadFactory("status-stream-"));
+        timer.scheduleWithFixedDelay(this::heartbeat, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+        Gauge.builder("authors.status.stream.connections", connections, AtomicInteger::get)
+            .description("Open application status SSE connections")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder("authors.status.stream.failed")
+            .description("Status SSE connections closed because a send failed, timed out or fell behind")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 구독을 등록한다. 연결 수 제한을 넘으면 null
+     */
+    public SseEmitter subscribe(UUID userId) {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            return null;
+        }
+
+        Subscriber subscriber = new Subscriber(userId, new SseEmitter(timeoutMillis));
+        boolean[] added = {false};
+        subscribers.compute(userId, (id, current) -> {
+            if (current == null) {
+                current = ConcurrentHashMap.newKeySet();
+            }
+            if (current.size() < maxConnectionsPerUser) {
+                added[0] = current.add(subscriber);
+            }
+            return current.isEmpty() ? null : current;
+        });
+        if (!added[0]) {
+            connections.decrementAndGet();
+            return null;
+        }
+
+        SseEmitter emitter = subscriber.emitter;
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        return emitter;
+    }
+
+    /**
+     * 해당 사용자의 모든 구독자에게 상태를 보낸다. (비동기)
+     * 이미 같거나 더 새 버전을 보냈으면 보내지 않는다.
+     */
+    public void publish(UUID userId, StatusUpdate update) {
+        Set<Subscriber> current = userId != null ? subscribers.get(userId) : null;
+        if (current != null && isNewer(userId, update.getVersion())) {
+            current.forEach(subscriber -> enqueue(subscriber, SseEmitter.event().name(STATUS_EVENT).data(update)));
+        }
+    }
+
+    /**
+     * 구독 직후 현재 상태를 보낸다. 핸들러가 emitter 를 돌려주기 전이라 응답에 버퍼링되므로 호출 스레드에서 바로 보낸다.
+     */
+    public void send(UUID userId, SseEmitter emitter, StatusUpdate update) {
+        if (update.getVersion() != null) {
+            // 이보다 오래된 버전의 심사 이벤트가 늦게 도착해도 되돌리지 않도록
+            publishedVersions.merge(userId, update.getVersion(), Math::max);
+        }
+        try {
+            emitter.send(SseEmitter.event().name(STATUS_EVENT).data(update));
+        } catch (IOException | IllegalStateException e) {
+            Set<Subscriber> current = subscribers.get(userId);
+            if (current != null) {
+                current.stream().filter(subscriber -> subscriber.emitter == emitter).forEach(this::remove);
+            }
+        }
+    }
+
+    private boolean isNewer(UUID userId, Long version) {
+        if (version == null) {
+            return true;
+        }
+        boolean[] newer = {false};
+        publishedVersions.compute(userId, (id, last) -> {
+            if (last != null && last >= version) {
+                return last;
+            }
+            newer[0] = true;
+            return version;
+        });
+        return newer[0];
+    }
+
+    void heartbeat() {
+        subscribers.values().forEach(current -> current.forEach(subscriber -> {
+            // 아직 보내는 중인 연결에는 쌓지 않는다 (밀린 전송 자체가 살아 있다는 뜻)
+            if (subscriber.pending.isEmpty()) {
+                enqueue(subscriber, SseEmitter.event().comment("heartbeat"));
+            }
+        }));
+    }
+
+    private void enqueue(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (subscriber.closed) {
+            return;
+        }
+        if (subscriber.pendingCount.incrementAndGet() > maxPending) {
+            close(subscriber, new IllegalStateException("More than " + maxPending + " pending status events"));
+            return;
+        }
+        subscriber.pending.add(event);
+        scheduleDrain(subscriber);
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.draining.set(false); // 종료 중
+            }
+        }
+    }
+
+    /**
+     * 한 연결의 밀린 이벤트를 순서대로 보낸다. 한 번에 한 스레드만 같은 연결을 처리한다.
+     * 닫힌 연결은 남은 이벤트를 버리고 여기서 completeWithError 한다.
+     * (SseEmitter 는 send 동안 emitter 락을 잡으므로 전송 중인 스레드 밖에서 complete 하면 그 전송이 끝날 때까지 막힌다)
+     */
+    private void drain(Subscriber subscriber) {
+        do {
+            SseEmitter.SseEventBuilder event;
+            while ((event = subscriber.pending.poll()) != null) {
+                subscriber.pendingCount.decrementAndGet();
+                if (!subscriber.closed) {
+                    sendWithTimeout(subscriber, event);
+                }
+            }
+            if (subscriber.closed) {
+                completeWithError(subscriber);
+            }
+            subscriber.draining.set(false);
+        } while ((!subscriber.pending.isEmpty() || needsCompletion(subscriber))
+            && subscriber.draining.compareAndSet(false, true));
+    }
+
+    private void sendWithTimeout(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        synchronized (subscriber) {
+            subscriber.sender = Thread.currentThread();
+        }
+        // watchdog 은 연결을 닫힘으로 표시하고 전송 스레드를 깨우기만 한다. (emitter 는 건드리지 않는다)
+        ScheduledFuture<?> watchdog = timer.schedule(() -> {
+            close(subscriber, new TimeoutException("Send took longer than " + sendTimeoutMillis + "ms"));
+            synchronized (subscriber) {
+                if (subscriber.sender != null) {
+                    subscriber.sender.interrupt();
+                }
+            }
+        }, sendTimeoutMillis, TimeUnit.MILLISECONDS);
+        try {
+            subscriber.emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            close(subscriber, e);
+        } finally {
+            watchdog.cancel(false);
+            synchronized (subscriber) {
+                subscriber.sender = null;
+            }
+            // watchdog 이 남긴 인터럽트가 다음 연결의 전송으로 넘어가지 않도록
+            Thread.interrupted();
+        }
+    }
+
+    /**
+     * 연결을 닫힘으로 표시하고 레지스트리에서 뺀다. completeWithError 는 drain 하는 스레드가 한다.
+     */
+    private void close(Subscriber subscriber, Exception cause) {
+        synchronized (subscriber) {
+            if (subscriber.failure != null || subscriber.closed) {
+                return;
+            }
+            subscriber.failure = cause;
+            subscriber.closed = true;
+        }
+        failedCounter.increment();
+        log.debug("Closing status stream of user {}: {}", subscriber.userId, cause.getMessage());
+        remove(subscriber);
+        scheduleDrain(subscriber);
+    }
+
+    private static boolean needsCompletion(Subscriber subscriber) {
+        return subscriber.failure != null && !subscriber.completed.get();
+    }
+
+    private static void completeWithError(Subscriber subscriber) {
+        Exception failure = subscriber.failure;
+        if (failure != null && subscriber.completed.compareAndSet(false, true)) {
+            try {
+                subscriber.emitter.completeWithError(failure);
+            } catch (IllegalStateException ignored) {
+                // 이미 완료된 연결
+            }
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscriber.closed = true;
+        subscribers.computeIfPresent(subscriber.userId, (id, current) -> {
+            if (current.remove(subscriber)) {
+                connections.decrementAndGet();
+            }
+            if (current.isEmpty()) {
+                publishedVersions.remove(id);
+                return null;
+            }
+            return current;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+        senders.shutdownNow();
+        subscribers.values().forEach(current -> current.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    private static final class Subscriber {
+
+        final UUID userId;
+        final SseEmitter emitter;
+        final Queue<SseEmitter.SseEventBuilder> pending = new ConcurrentLinkedQueue<>();
+        final AtomicInteger pendingCount = new AtomicInteger();
+        final AtomicBoolean draining = new AtomicBoolean();
+        final AtomicBoolean completed = new AtomicBoolean();
+        volatile boolean closed;
+        volatile Exception failure; // 전송 실패/시간 초과로 닫힌 원인 (drain 이 completeWithError 로 전달)
+        Thread sender; // 전송 중인 스레드 (this 로 동기화)
+
+        Subscriber(UUID userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+    }
+
+    public static class StatusUpdate {
+        private UUID authorId;
+        private String status;
+        private Long version;
+
+        public StatusUpdate() {}
+
+        public StatusUpdate(UUID authorId, String status, Long version) {
+            this.authorId = authorId;
+            this.status = status;
+            this.version = version;
+        }
+
+        public UUID getAuthorId() { return authorId; }
+        public void setAuthorId(UUID authorId) { this.authorId = authorId; }
+        public String getStatus() { return status; }
+        public void setStatus(String status) { this.status = status; }
+        public Long getVersion() { return version; }
+        public void setVersion(Long version) { this.version = version; }
+    }
+}
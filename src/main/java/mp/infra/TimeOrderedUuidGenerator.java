@@ -0,0 +1,48 @@
+package mp.infra;
+
+import java.io.Serializable;
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * 시간 순서 UUID (UUIDv7 형식) 생성기
+ * - 상위 48비트는 epoch 밀리초, 그 다음 12비트는 같은 밀리초 안에서 증가하는 카운터
+ * - 나머지 62비트는 난수
+ * 새 키가 항상 인덱스 끝쪽에 붙으므로 랜덤 UUID 보다 B-tree 페이지 분할이 적다.
+ *
+ * 엔티티에서 사용:
+ * {@code @GenericGenerator(name = "UUID", strategy = "mp.infra.TimeOrderedUuidGenerator")}
+ */
+public class TimeOrderedUuidGenerator implements IdentifierGenerator {
+
+    private static final AtomicLong LAST = new AtomicLong(); // (epoch ms << 12) | counter
+    private static final ThreadLocal<SecureRandom> RANDOM = ThreadLocal.withInitial(SecureRandom::new);
+
+    @Override
+    public Serializable generate(SharedSessionContractImplementor session, Object object) {
+        return next();
+    }
+
+    /**
+     * 단조 증가하는 시간 순서 UUID 를 만든다. (스레드 안전, lock-free)
+     * 한 밀리초에 4096 개를 넘기면 다음 밀리초 값을 미리 빌려 쓴다.
+     */
+    public static UUID next() {
+        long now = System.currentTimeMillis() << 12;
+        long prev;
+        long next;
+        do {
+            prev = LAST.get();
+            next = Math.max(now, prev + 1);
+        } while (!LAST.compareAndSet(prev, next));
+
+        long timestamp = next >>> 12;
+        long counter = next & 0xFFFL;
+        long msb = (timestamp << 16) | 0x7000L | counter;
+        long lsb = (RANDOM.get().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+}
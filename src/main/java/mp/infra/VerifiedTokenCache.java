@@ -0,0 +1,70 @@
+package mp.infra;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 서명 검증을 마친 토큰 캐시 (Caffeine)
+ * - 최대 maxSize 개까지 보관하고, 넘치면 Caffeine 이 빈도 기반으로 내보낸다. (요청마다 전체를 훑지 않는다)
+ * - 항목마다 토큰의 exp 시각에 만료된다.
+ */
+class VerifiedTokenCache {
+
+    private final Cache<String, JwtPrincipal> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    VerifiedTokenCache(int maxSize) {
+        this.entries = maxSize <= 0 ? null : Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(new TokenExpiry())
+            .build();
+    }
+
+    JwtPrincipal get(String token, long now) {
+        JwtPrincipal principal = entries != null ? entries.getIfPresent(token) : null;
+        if (principal == null || principal.isExpired(now)) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return principal;
+    }
+
+    void put(String token, JwtPrincipal principal, long now) {
+        if (entries != null && !principal.isExpired(now)) {
+            entries.put(token, principal);
+        }
+    }
+
+    long hitCount() { return hits.sum(); }
+    long missCount() { return misses.sum(); }
+    long size() { return entries != null ? entries.estimatedSize() : 0; }
+
+    /**
+     * 넣는 시점부터 토큰 exp 까지 남은 시간 (갱신/조회로 늘어나지 않는다)
+     */
+    private static final class TokenExpiry implements Expiry<String, JwtPrincipal> {
+
+        @Override
+        public long expireAfterCreate(String token, JwtPrincipal principal, long currentTime) {
+            long remainingMillis = principal.getExpiresAt() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, JwtPrincipal principal,
+                                      long currentTime, long currentDuration) {
+            return expireAfterCreate(token, principal, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, JwtPrincipal principal,
+                                    long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
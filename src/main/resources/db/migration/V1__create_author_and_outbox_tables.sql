@@ -0,0 +1,20 @@
+-- 기존에 Hibernate ddl-auto 로 만들던 스키마 그대로
+create table author_table (
+    id BINARY(16) not null,
+    bio varchar(255),
+    name varchar(255),
+    portfolio_url varchar(255),
+    status varchar(255) not null,
+    user_id BINARY(16),
+    version bigint,
+    primary key (id)
+);
+
+create table outbox_table (
+    id bigint generated by default as identity,
+    aggregate_id varchar(64),
+    created_at bigint not null,
+    event_type varchar(255) not null,
+    payload blob not null,
+    primary key (id)
+);
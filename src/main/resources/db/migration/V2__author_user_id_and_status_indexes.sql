@@ -0,0 +1,5 @@
+-- 사용자당 작가 신청은 하나 (findByUserId / 중복 신청 방지)
+create unique index ux_author_user_id on author_table (user_id);
+
+-- PENDING 목록 키셋 페이지네이션 (status = ? and id > ? order by id)
+create index ix_author_status_id on author_table (status, id);
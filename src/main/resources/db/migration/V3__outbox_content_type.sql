@@ -0,0 +1,2 @@
+-- 행마다 인코딩된 형식 (application/json 또는 application/cbor;schema=...;version=...)
+alter table outbox_table add column content_type varchar(255) default 'application/json' not null;
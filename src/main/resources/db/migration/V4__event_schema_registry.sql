@@ -0,0 +1,8 @@
+-- CBOR 이벤트 스키마 저장소 (JdbcSchemaRegistry). 같은 DB 를 쓰는 모든 레플리카가 공유한다.
+create table event_schema (
+    fingerprint varchar(16) not null,
+    subject varchar(255) not null,
+    fields varchar(4000) not null, -- 필드 이름을 순서대로 줄바꿈으로 이은 값
+    created_at bigint not null,
+    primary key (fingerprint)
+);
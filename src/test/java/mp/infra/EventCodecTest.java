@@ -0,0 +1,124 @@
+package mp.infra;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.MimeTypeUtils;
+
+class EventCodecTest {
+
+    @Test
+    void roundTripsCbor() {
+        EventCodec codec = new EventCodec(new InMemorySchemaRegistry(), "application/cbor");
+        mp.domain.AuditCompleted event = auditCompleted();
+
+        EventCodec.Encoded encoded = codec.encode(event);
+        mp.domain.AuditCompleted decoded = codec.decode(
+            encoded.getPayload(), encoded.getContentType(), mp.domain.AuditCompleted.class
+        );
+
+        assertTrue(encoded.getContentType().equalsTypeAndSubtype(EventCodec.CBOR));
+        assertEquals("AuditCompleted", encoded.getContentType().getParameter(EventCodec.SCHEMA_PARAM));
+        assertEquals(event, decoded);
+    }
+
+    @Test
+    void readsSchemaOfAnotherBuildByFingerprint() {
+        SchemaRegistry shared = new InMemorySchemaRegistry();
+        EventCodec producer = new EventCodec(shared, "application/cbor");
+        EventCodec consumer = new EventCodec(shared, "application/cbor");
+        AuditCompleted event = new AuditCompleted();
+        event.setId(UUID.randomUUID());
+        event.setStatus("APPROVED");
+        event.setReviewer("admin");
+
+        EventCodec.Encoded encoded = producer.encode(event);
+        mp.domain.AuditCompleted decoded = consumer.decode(
+            encoded.getPayload(), encoded.getContentType(), mp.domain.AuditCompleted.class
+        );
+
+        // 보낸 쪽에만 있는 reviewer 는 건너뛰고, 없는 필드는 비워 둔다.
+        assertEquals(event.getId(), decoded.getId());
+        assertEquals("APPROVED", decoded.getStatus());
+        assertNull(decoded.getUserId());
+    }
+
+    @Test
+    void rejectsUnknownFingerprint() {
+        EventCodec producer = new EventCodec(new InMemorySchemaRegistry(), "application/cbor");
+        EventCodec consumer = new EventCodec(new InMemorySchemaRegistry(), "application/cbor");
+        AuditCompleted event = new AuditCompleted();
+        event.setReviewer("admin");
+
+        EventCodec.Encoded encoded = producer.encode(event);
+
+        assertThrows(IllegalArgumentException.class, () -> consumer.decode(
+            encoded.getPayload(), encoded.getContentType(), mp.domain.AuditCompleted.class
+        ));
+    }
+
+    @Test
+    void fallsBackToJson() throws Exception {
+        for (String contentType : new String[] { "application/json", null }) {
+            EventCodec codec = new EventCodec(new InMemorySchemaRegistry(), contentType);
+            mp.domain.AuditCompleted event = auditCompleted();
+
+            EventCodec.Encoded encoded = codec.encode(event);
+
+            assertEquals(MimeTypeUtils.APPLICATION_JSON, encoded.getContentType());
+            assertEquals(
+                event,
+                new ObjectMapper().readValue(encoded.getPayload(), mp.domain.AuditCompleted.class)
+            );
+        }
+    }
+
+    private static mp.domain.AuditCompleted auditCompleted() {
+        mp.domain.AuditCompleted event = new mp.domain.AuditCompleted();
+        event.setId(UUID.randomUUID());
+        event.setUserId(UUID.randomUUID());
+        event.setStatus("APPROVED");
+        event.setPortfolioUrl("https://example.com/portfolio");
+        event.setVersion(3L);
+        return event;
+    }
+
+    /**
+     * 필드 목록이 다른 빌드의 AuditCompleted (subject 는 같다)
+     */
+    static class AuditCompleted extends AbstractEvent {
+
+        private UUID id;
+        private String status;
+        private String reviewer;
+
+        public UUID getId() {
+            return id;
+        }
+
+        public void setId(UUID id) {
+            this.id = id;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public void setStatus(String status) {
+            this.status = status;
+        }
+
+        public String getReviewer() {
+            return reviewer;
+        }
+
+        public void setReviewer(String reviewer) {
+            this.reviewer = reviewer;
+        }
+    }
+}
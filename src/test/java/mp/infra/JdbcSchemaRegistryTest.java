@@ -0,0 +1,84 @@
+package mp.infra;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+class JdbcSchemaRegistryTest {
+
+    private EmbeddedDatabase database;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .addScript("db/migration/V4__event_schema_registry.sql")
+            .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void findsSchemaRegisteredByAnotherReplica() {
+        JdbcSchemaRegistry producer = registry();
+        JdbcSchemaRegistry consumer = registry();
+
+        EventSchema registered = producer.register("AuditCompleted", Arrays.asList("id", "status", "reviewer"));
+
+        EventSchema found = consumer.find(registered.getFingerprint()).orElseThrow(AssertionError::new);
+        assertEquals("AuditCompleted", found.getSubject());
+        assertEquals(Arrays.asList("id", "status", "reviewer"), found.getFields());
+        assertEquals(registered.getFingerprint(), found.getFingerprint());
+        assertFalse(consumer.find("0000000000000000").isPresent());
+    }
+
+    @Test
+    void registersSameSchemaOnce() {
+        JdbcSchemaRegistry first = registry();
+        JdbcSchemaRegistry second = registry();
+
+        EventSchema a = first.register("AuditCompleted", Arrays.asList("id", "status"));
+        EventSchema b = second.register("AuditCompleted", Arrays.asList("id", "status"));
+
+        assertEquals(a.getFingerprint(), b.getFingerprint());
+        assertEquals(
+            1,
+            new JdbcTemplate(database).queryForObject("select count(*) from event_schema", Integer.class).intValue()
+        );
+    }
+
+    @Test
+    void decodesAcrossReplicas() {
+        EventCodec producer = new EventCodec(registry(), "application/cbor");
+        EventCodec consumer = new EventCodec(registry(), "application/cbor");
+        EventCodecTest.AuditCompleted event = new EventCodecTest.AuditCompleted();
+        event.setStatus("REJECTED");
+        event.setReviewer("admin");
+
+        EventCodec.Encoded encoded = producer.encode(event);
+        mp.domain.AuditCompleted decoded = consumer.decode(
+            encoded.getPayload(), encoded.getContentType(), mp.domain.AuditCompleted.class
+        );
+
+        assertEquals("REJECTED", decoded.getStatus());
+        assertTrue(encoded.getContentType().equalsTypeAndSubtype(EventCodec.CBOR));
+    }
+
+    private JdbcSchemaRegistry registry() {
+        return new JdbcSchemaRegistry(new JdbcTemplate(database), new DataSourceTransactionManager(database));
+    }
+}